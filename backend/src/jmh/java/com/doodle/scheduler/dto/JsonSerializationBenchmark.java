@@ -0,0 +1,85 @@
+package com.doodle.scheduler.dto;
+
+import com.doodle.scheduler.domain.SlotStatus;
+import com.doodle.scheduler.domain.TimeSlot;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 3, 2, 9, 0);
+
+    @Param({"1", "100", "1000"})
+    int size;
+
+    private ObjectMapper objectMapper;
+    private List<TimeSlot> slots;
+    private List<MeetingResponse> meetings;
+    private List<AvailabilityResponse> availability;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        final var calendarId = UUID.randomUUID();
+        slots = IntStream.range(0, size)
+                .mapToObj(i -> TimeSlot.builder()
+                        .id(UUID.randomUUID())
+                        .calendarId(calendarId)
+                        .startTime(START.plusMinutes(30L * i))
+                        .endTime(START.plusMinutes(30L * i + 30))
+                        .status(i % 3 == 0 ? SlotStatus.BUSY : SlotStatus.FREE)
+                        .createdAt(START.minusDays(1))
+                        .build())
+                .toList();
+        meetings = slots.stream()
+                .map(slot -> new MeetingResponse(UUID.randomUUID(), "Planning", "Quarterly planning", UUID.randomUUID(),
+                        slot.id(), slot.startTime(), slot.endTime(), List.of(UUID.randomUUID(), UUID.randomUUID()),
+                        slot.createdAt()))
+                .toList();
+        availability = slots.stream()
+                .map(slot -> new AvailabilityResponse(slot.id(), slot.startTime(), slot.endTime(), slot.status()))
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] timeSlots() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(slots);
+    }
+
+    @Benchmark
+    public byte[] meetingResponses() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(meetings);
+    }
+
+    @Benchmark
+    public byte[] availabilityResponses() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(availability);
+    }
+}
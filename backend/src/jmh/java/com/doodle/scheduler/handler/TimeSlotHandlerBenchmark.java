@@ -0,0 +1,100 @@
+package com.doodle.scheduler.handler;
+
+import com.doodle.scheduler.domain.SlotStatus;
+import com.doodle.scheduler.domain.TimeSlot;
+import com.doodle.scheduler.dto.AvailabilityResponse;
+import com.doodle.scheduler.dto.CursorPage;
+import com.doodle.scheduler.dto.SlotCursor;
+import com.doodle.scheduler.service.TimeSlotService;
+import lombok.NonNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.reactive.function.server.MockServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimeSlotHandlerBenchmark {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2026, 3, 2, 0, 0);
+
+    private TimeSlotHandler handler;
+    private MockServerRequest slotsRequest;
+    private MockServerRequest availabilityRequest;
+
+    @Setup
+    public void setUp() {
+        handler = new TimeSlotHandler(new StubTimeSlotService(), null);
+        slotsRequest = MockServerRequest.builder()
+                .pathVariable("calendarId", UUID.randomUUID().toString())
+                .queryParam("status", "FREE")
+                .queryParam("from", FROM.toString())
+                .queryParam("to", FROM.plusDays(7).toString())
+                .queryParam("limit", "100")
+                .build();
+        availabilityRequest = MockServerRequest.builder()
+                .pathVariable("userId", UUID.randomUUID().toString())
+                .queryParam("from", FROM.toString())
+                .queryParam("to", FROM.plusDays(7).toString())
+                .queryParam("cursor", new SlotCursor(FROM.plusHours(9), UUID.randomUUID()).encode())
+                .queryParam("limit", "100")
+                .build();
+    }
+
+    @Benchmark
+    public ServerResponse findByCalendar() {
+        return handler.findByCalendar(slotsRequest).block();
+    }
+
+    @Benchmark
+    public ServerResponse getAvailability() {
+        return handler.getAvailability(availabilityRequest).block();
+    }
+
+    private static final class StubTimeSlotService extends TimeSlotService {
+
+        private final Mono<CursorPage<TimeSlot>> slots = Mono.just(new CursorPage<>(List.of(), null, null));
+        private final Mono<CursorPage<AvailabilityResponse>> availability = Mono.just(new CursorPage<>(List.of(), null, null));
+
+        StubTimeSlotService() {
+            super(null, null, null, null, null, null);
+        }
+
+        @Override
+        public Mono<CursorPage<TimeSlot>> findByCalendar(@NonNull final UUID calendarId,
+                                                         final SlotStatus status,
+                                                         final LocalDateTime from,
+                                                         final LocalDateTime to,
+                                                         final String cursor,
+                                                         final Integer limit) {
+            return slots;
+        }
+
+        @Override
+        public Mono<CursorPage<AvailabilityResponse>> getAvailability(@NonNull final UUID userId,
+                                                                      @NonNull final LocalDateTime from,
+                                                                      @NonNull final LocalDateTime to,
+                                                                      final String cursor,
+                                                                      final Integer limit) {
+            return availability;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.doodle.scheduler.service;
+
+import com.doodle.scheduler.domain.Meeting;
+import com.doodle.scheduler.dto.MeetingResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MeetingServiceBenchmark {
+
+    @Param({"1", "10", "100"})
+    int participants;
+
+    private Meeting meeting;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private List<UUID> participantIds;
+
+    @Setup
+    public void setUp() {
+        startTime = LocalDateTime.of(2026, 3, 2, 9, 0);
+        endTime = startTime.plusMinutes(30);
+        meeting = Meeting.builder()
+                .id(UUID.randomUUID())
+                .title("Planning")
+                .description("Quarterly planning")
+                .organizerId(UUID.randomUUID())
+                .slotId(UUID.randomUUID())
+                .createdAt(startTime.minusDays(1))
+                .build();
+        participantIds = Stream.generate(UUID::randomUUID).limit(participants).toList();
+    }
+
+    @Benchmark
+    public MeetingResponse toResponse() {
+        return MeetingService.toResponse(meeting, startTime, endTime, participantIds);
+    }
+}
@@ -0,0 +1,30 @@
+package com.doodle.scheduler.service;
+
+import lombok.NonNull;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+final class RepositoryStubs {
+
+    private RepositoryStubs() {
+    }
+
+    static <T> T of(@NonNull final Class<T> type, @NonNull final Map<String, Function<Object[], Object>> answers) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            final var answer = answers.get(method.getName());
+            if (answer != null) {
+                return answer.apply(args);
+            }
+            return switch (method.getName()) {
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                case "toString" -> type.getSimpleName() + "Stub";
+                default -> method.getReturnType() == Flux.class ? Flux.empty() : Mono.empty();
+            };
+        }));
+    }
+}
@@ -0,0 +1,67 @@
+package com.doodle.scheduler.service;
+
+import com.doodle.scheduler.domain.TimeSlot;
+import com.doodle.scheduler.dto.CreateSlotRequest;
+import com.doodle.scheduler.repository.CalendarRepository;
+import com.doodle.scheduler.repository.TimeSlotRepository;
+import com.doodle.scheduler.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimeSlotServiceBenchmark {
+
+    private TimeSlotService timeSlotService;
+    private UUID calendarId;
+    private CreateSlotRequest request;
+
+    @Setup
+    public void setUp() {
+        final var properties = new R2dbcProperties();
+        properties.setUrl("r2dbc:postgresql://localhost:5432/benchmark");
+        properties.setUsername("benchmark");
+        final var changeListener = new CalendarChangeListener(properties);
+        final var meterRegistry = new SimpleMeterRegistry();
+        final var timeSlotRepository = RepositoryStubs.of(TimeSlotRepository.class, Map.of(
+                "save", args -> Mono.just(((TimeSlot) args[0]).withId(UUID.randomUUID()))));
+        final var intervalIndex = new CalendarIntervalIndex(timeSlotRepository, changeListener, meterRegistry,
+                Clock.systemUTC(), 1, 0, Duration.ofHours(1), 1);
+        intervalIndex.subscribe();
+        final var lookupCache = new LookupCache(RepositoryStubs.of(UserRepository.class, Map.of()),
+                RepositoryStubs.of(CalendarRepository.class, Map.of()), changeListener, meterRegistry, 100,
+                Duration.ofMinutes(5));
+        timeSlotService = new TimeSlotService(timeSlotRepository, lookupCache, meterRegistry, intervalIndex, changeListener,
+                new QueryCoalescer(meterRegistry, Duration.ZERO));
+        calendarId = UUID.randomUUID();
+        final var start = LocalDateTime.of(2026, 3, 2, 9, 0);
+        request = new CreateSlotRequest(start, start.plusMinutes(30));
+    }
+
+    @Benchmark
+    public TimeSlot create() {
+        return timeSlotService.create(calendarId, request).block();
+    }
+}
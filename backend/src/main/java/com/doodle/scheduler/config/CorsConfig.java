@@ -1,8 +1,13 @@
 package com.doodle.scheduler.config;
 
+import com.doodle.scheduler.handler.IdempotentRequests;
+import com.doodle.scheduler.handler.TimeSlotHandler;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.reactive.CorsWebFilter;
 import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
@@ -18,11 +23,14 @@ public class CorsConfig {
     private List<String> allowedOrigins;
 
     @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
     public CorsWebFilter corsWebFilter() {
         final var config = new CorsConfiguration();
         config.setAllowedOrigins(allowedOrigins);
         config.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         config.setAllowedHeaders(List.of("*"));
+        config.setExposedHeaders(List.of(TimeSlotHandler.HEADER_NEXT_CURSOR, IdempotentRequests.HEADER_IDEMPOTENT_REPLAYED, HttpHeaders.ETAG,
+                HttpHeaders.RETRY_AFTER));
         config.setAllowCredentials(true);
 
         final var source = new UrlBasedCorsConfigurationSource();
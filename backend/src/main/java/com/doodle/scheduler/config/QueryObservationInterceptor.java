@@ -0,0 +1,94 @@
+package com.doodle.scheduler.config;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+@Slf4j
+public class QueryObservationInterceptor implements MethodInterceptor {
+
+    static final String OBSERVATION_NAME = "db.query";
+    static final String KEY_REPOSITORY = "repository";
+    static final String KEY_QUERY = "query";
+
+    private final Supplier<ObservationRegistry> observationRegistry;
+    private final String repository;
+    private final long slowQueryThresholdNanos;
+
+    public QueryObservationInterceptor(@NonNull final Supplier<ObservationRegistry> observationRegistry,
+                                       @NonNull final String repository,
+                                       @NonNull final Duration slowQueryThreshold) {
+        this.observationRegistry = observationRegistry;
+        this.repository = repository;
+        this.slowQueryThresholdNanos = slowQueryThreshold.toNanos();
+    }
+
+    @Override
+    public Object invoke(@NonNull final MethodInvocation invocation) throws Throwable {
+        final var result = invocation.proceed();
+        final var query = invocation.getMethod().getName();
+        if (result instanceof Mono<?> mono) {
+            return Mono.defer(() -> {
+                final var observation = start(query);
+                final var started = System.nanoTime();
+                return mono.doOnError(observation::error)
+                        .doFinally(signal -> stop(observation, query, started, signal));
+            });
+        }
+        if (result instanceof Flux<?> flux) {
+            return Flux.defer(() -> {
+                final var observation = start(query);
+                final var started = System.nanoTime();
+                final var stopped = new AtomicBoolean();
+                return flux.doOnNext(row -> stopOnce(stopped, observation, query, started, SignalType.ON_NEXT))
+                        .doOnError(error -> {
+                            if (!stopped.get()) {
+                                observation.error(error);
+                            }
+                        })
+                        .doFinally(signal -> stopOnce(stopped, observation, query, started, signal));
+            });
+        }
+        return result;
+    }
+
+    private Observation start(@NonNull final String query) {
+        return Observation.createNotStarted(OBSERVATION_NAME, observationRegistry.get())
+                .lowCardinalityKeyValue(KEY_REPOSITORY, repository)
+                .lowCardinalityKeyValue(KEY_QUERY, query)
+                .start();
+    }
+
+    private void stopOnce(@NonNull final AtomicBoolean stopped,
+                          @NonNull final Observation observation,
+                          @NonNull final String query,
+                          final long started,
+                          @NonNull final SignalType signal) {
+        if (stopped.compareAndSet(false, true)) {
+            stop(observation, query, started, signal);
+        }
+    }
+
+    private void stop(@NonNull final Observation observation,
+                      @NonNull final String query,
+                      final long started,
+                      @NonNull final SignalType signal) {
+        observation.stop();
+        final var elapsed = System.nanoTime() - started;
+        if (elapsed >= slowQueryThresholdNanos) {
+            log.warn("Slow query: repository={}, query={}, durationMs={}, signal={}",
+                    repository, query, TimeUnit.NANOSECONDS.toMillis(elapsed), signal);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.doodle.scheduler.config;
 
+import io.r2dbc.postgresql.PostgresqlConnectionFactoryProvider;
 import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.boot.autoconfigure.r2dbc.ConnectionFactoryOptionsBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.r2dbc.config.EnableR2dbcAuditing;
@@ -8,11 +10,20 @@ import org.springframework.r2dbc.connection.R2dbcTransactionManager;
 import org.springframework.transaction.ReactiveTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
+import java.util.UUID;
+
 @Configuration
 @EnableR2dbcAuditing
 @EnableTransactionManagement
 public class R2dbcConfig {
 
+    public static final String APPLICATION_NAME = "doodle-scheduler-" + UUID.randomUUID().toString().substring(0, 8);
+
+    @Bean
+    public ConnectionFactoryOptionsBuilderCustomizer applicationNameCustomizer() {
+        return builder -> builder.option(PostgresqlConnectionFactoryProvider.APPLICATION_NAME, APPLICATION_NAME);
+    }
+
     @Bean
     public ReactiveTransactionManager transactionManager(final ConnectionFactory connectionFactory) {
         return new R2dbcTransactionManager(connectionFactory);
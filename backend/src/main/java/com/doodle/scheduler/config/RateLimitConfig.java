@@ -0,0 +1,73 @@
+package com.doodle.scheduler.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Configuration
+@ConditionalOnProperty(name = "scheduler.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig {
+
+    private static final String COST_SEPARATOR = "=";
+
+    @Bean
+    public RateLimitFilter rateLimitFilter(
+            final MeterRegistry meterRegistry,
+            @Value("${scheduler.rate-limit.client-header:X-Client-Id}") final String clientHeader,
+            @Value("${scheduler.rate-limit.trusted-proxies:}") final List<String> trustedProxies,
+            @Value("${scheduler.rate-limit.requests-per-second:50}") final double requestsPerSecond,
+            @Value("${scheduler.rate-limit.burst:100}") final int burst,
+            @Value("${scheduler.rate-limit.route-costs:}") final List<String> routeCosts,
+            @Value("${scheduler.rate-limit.max-in-flight:60}") final int maxInFlight,
+            @Value("${scheduler.rate-limit.concurrency-exempt:}") final List<String> concurrencyExempt,
+            @Value("${scheduler.rate-limit.overload-retry-after:1s}") final Duration overloadRetryAfter,
+            @Value("${scheduler.rate-limit.max-clients:100000}") final long maxClients,
+            @Value("${scheduler.rate-limit.client-idle-timeout:10m}") final Duration clientIdleTimeout) {
+        return new RateLimitFilter(costs(routeCosts), patterns(concurrencyExempt), clientHeader,
+                addresses(trustedProxies), requestsPerSecond, burst, maxInFlight, overloadRetryAfter, maxClients,
+                clientIdleTimeout, meterRegistry);
+    }
+
+    private static Map<PathPattern, Integer> costs(@NonNull final List<String> entries) {
+        final var costs = new LinkedHashMap<PathPattern, Integer>();
+        for (final var entry : entries) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            final var separator = entry.lastIndexOf(COST_SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Route cost must look like <path pattern>=<cost>: " + entry);
+            }
+            costs.put(PathPatternParser.defaultInstance.parse(entry.substring(0, separator).trim()),
+                    Integer.valueOf(entry.substring(separator + 1).trim()));
+        }
+        return costs;
+    }
+
+    private static Set<String> addresses(@NonNull final List<String> entries) {
+        return entries.stream()
+                .map(String::trim)
+                .filter(entry -> !entry.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private static List<PathPattern> patterns(@NonNull final List<String> entries) {
+        return entries.stream()
+                .map(String::trim)
+                .filter(entry -> !entry.isEmpty())
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+    }
+}
@@ -0,0 +1,161 @@
+package com.doodle.scheduler.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.NonNull;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+public class RateLimitFilter implements WebFilter, Ordered {
+
+    static final String METRIC_REJECTIONS = "rate_limit_rejections_total";
+    static final String METRIC_IN_FLIGHT = "admission_in_flight";
+    static final String METRIC_CLIENTS = "rate_limit_clients";
+    static final String REASON_CLIENT = "client";
+    static final String REASON_OVERLOAD = "overload";
+    private static final String TAG_REASON = "reason";
+    private static final String API_PREFIX = "/api/";
+    private static final String UNKNOWN_CLIENT = "unknown";
+    private static final int DEFAULT_COST = 1;
+
+    private final Map<PathPattern, Integer> routeCosts;
+    private final List<PathPattern> concurrencyExempt;
+    private final String clientHeader;
+    private final Set<String> trustedProxies;
+    private final double requestsPerSecond;
+    private final int burst;
+    private final int maxInFlight;
+    private final Duration overloadRetryAfter;
+    private final LongSupplier nanoTime;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, TokenBucket> buckets;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public RateLimitFilter(@NonNull final Map<PathPattern, Integer> routeCosts,
+                           @NonNull final List<PathPattern> concurrencyExempt,
+                           @NonNull final String clientHeader,
+                           @NonNull final Set<String> trustedProxies,
+                           final double requestsPerSecond,
+                           final int burst,
+                           final int maxInFlight,
+                           @NonNull final Duration overloadRetryAfter,
+                           final long maxClients,
+                           @NonNull final Duration clientIdleTimeout,
+                           @NonNull final MeterRegistry meterRegistry) {
+        this(routeCosts, concurrencyExempt, clientHeader, trustedProxies, requestsPerSecond, burst, maxInFlight, overloadRetryAfter,
+                maxClients, clientIdleTimeout, meterRegistry, System::nanoTime);
+    }
+
+    RateLimitFilter(@NonNull final Map<PathPattern, Integer> routeCosts,
+                    @NonNull final List<PathPattern> concurrencyExempt,
+                    @NonNull final String clientHeader,
+                    @NonNull final Set<String> trustedProxies,
+                    final double requestsPerSecond,
+                    final int burst,
+                    final int maxInFlight,
+                    @NonNull final Duration overloadRetryAfter,
+                    final long maxClients,
+                    @NonNull final Duration clientIdleTimeout,
+                    @NonNull final MeterRegistry meterRegistry,
+                    @NonNull final LongSupplier nanoTime) {
+        routeCosts.forEach((pattern, cost) -> {
+            if (cost < 0 || cost > burst) {
+                throw new IllegalArgumentException("Cost of %s must be between 0 and the burst size %d, was %d"
+                        .formatted(pattern, burst, cost));
+            }
+        });
+        this.routeCosts = routeCosts;
+        this.concurrencyExempt = concurrencyExempt;
+        this.clientHeader = clientHeader;
+        this.trustedProxies = trustedProxies;
+        this.requestsPerSecond = requestsPerSecond;
+        this.burst = burst;
+        this.maxInFlight = maxInFlight;
+        this.overloadRetryAfter = overloadRetryAfter;
+        this.nanoTime = nanoTime;
+        this.meterRegistry = meterRegistry;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxClients)
+                .expireAfterAccess(clientIdleTimeout)
+                .build();
+        Gauge.builder(METRIC_IN_FLIGHT, inFlight, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder(METRIC_CLIENTS, buckets, Cache::estimatedSize).register(meterRegistry);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 10;
+    }
+
+    @Override
+    public Mono<Void> filter(@NonNull final ServerWebExchange exchange, @NonNull final WebFilterChain chain) {
+        final var request = exchange.getRequest();
+        if (HttpMethod.OPTIONS.equals(request.getMethod()) || !request.getPath().value().startsWith(API_PREFIX)) {
+            return chain.filter(exchange);
+        }
+        final var path = request.getPath().pathWithinApplication();
+        final var cost = routeCosts.entrySet().stream()
+                .filter(entry -> entry.getKey().matches(path))
+                .mapToInt(Map.Entry::getValue)
+                .findFirst()
+                .orElse(DEFAULT_COST);
+        if (cost > 0) {
+            final var wait = buckets.get(clientKey(exchange), key -> new TokenBucket(requestsPerSecond, burst))
+                    .tryAcquire(cost, nanoTime.getAsLong());
+            if (wait > 0) {
+                return reject(exchange, REASON_CLIENT, Duration.ofNanos(wait));
+            }
+        }
+        if (concurrencyExempt.stream().anyMatch(pattern -> pattern.matches(path))) {
+            return chain.filter(exchange);
+        }
+        if (inFlight.incrementAndGet() > maxInFlight) {
+            inFlight.decrementAndGet();
+            return reject(exchange, REASON_OVERLOAD, overloadRetryAfter);
+        }
+        return chain.filter(exchange).doFinally(signal -> inFlight.decrementAndGet());
+    }
+
+    private String clientKey(@NonNull final ServerWebExchange exchange) {
+        final var request = exchange.getRequest();
+        final var remote = request.getRemoteAddress();
+        final var address = remote != null && remote.getAddress() != null
+                ? remote.getAddress().getHostAddress()
+                : UNKNOWN_CLIENT;
+        if (trustedProxies.contains(address)) {
+            final var client = request.getHeaders().getFirst(clientHeader);
+            if (client != null && !client.isBlank()) {
+                return client;
+            }
+        }
+        return address;
+    }
+
+    private Mono<Void> reject(@NonNull final ServerWebExchange exchange,
+                              @NonNull final String reason,
+                              @NonNull final Duration retryAfter) {
+        meterRegistry.counter(METRIC_REJECTIONS, TAG_REASON, reason).increment();
+        final var response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER,
+                String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(retryAfter.toNanos() + 999_999_999))));
+        return response.setComplete();
+    }
+}
@@ -0,0 +1,78 @@
+package com.doodle.scheduler.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.spi.ConnectionFactory;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+@Slf4j
+public class ReplicaLagMonitor {
+
+    static final String METRIC_LAG = "replica_lag_seconds";
+    private static final String LAG_QUERY = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+            END::float8""";
+
+    private final DatabaseClient replica;
+    private final double maxLagSeconds;
+    private final Duration checkInterval;
+    private volatile double lagSeconds = Double.NaN;
+    private Disposable monitoring;
+
+    public ReplicaLagMonitor(@NonNull final ConnectionFactory replica,
+                             @NonNull final MeterRegistry meterRegistry,
+                             @NonNull final Duration maxLag,
+                             @NonNull final Duration checkInterval) {
+        this.replica = DatabaseClient.create(replica);
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        this.checkInterval = checkInterval;
+        Gauge.builder(METRIC_LAG, this, monitor -> monitor.lagSeconds).register(meterRegistry);
+    }
+
+    public void start() {
+        monitoring = Flux.interval(Duration.ZERO, checkInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> check()
+                        .onErrorResume(ex -> {
+                            if (!Double.isNaN(lagSeconds)) {
+                                log.warn("Replica lag check failed, routing reads to the primary: {}", ex.getMessage());
+                            }
+                            lagSeconds = Double.NaN;
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    public void stop() {
+        if (monitoring != null) {
+            monitoring.dispose();
+        }
+    }
+
+    public boolean isReplicaUsable() {
+        return lagSeconds <= maxLagSeconds;
+    }
+
+    Mono<Double> check() {
+        return replica.sql(LAG_QUERY)
+                .map(row -> row.get(0, Double.class))
+                .one()
+                .timeout(checkInterval)
+                .doOnNext(lag -> {
+                    final var usable = lag <= maxLagSeconds;
+                    if (usable != isReplicaUsable()) {
+                        log.info("Replica lag {}s, max {}s: routing reads to the {}", lag, maxLagSeconds, usable ? "replica" : "primary");
+                    }
+                    lagSeconds = lag;
+                });
+    }
+}
@@ -0,0 +1,36 @@
+package com.doodle.scheduler.config;
+
+import lombok.NonNull;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+public final class ReplicaRouting {
+
+    private static final String READ_ONLY = ReplicaRouting.class.getName() + ".readOnly";
+    private static final String PINNED_TO_PRIMARY = ReplicaRouting.class.getName() + ".pinnedToPrimary";
+
+    private ReplicaRouting() {
+    }
+
+    public static <T> Mono<T> readOnly(@NonNull final Mono<T> mono) {
+        return mono.contextWrite(Context.of(READ_ONLY, true));
+    }
+
+    public static <T> Flux<T> readOnly(@NonNull final Flux<T> flux) {
+        return flux.contextWrite(Context.of(READ_ONLY, true));
+    }
+
+    static Context pinToPrimary(@NonNull final Context context) {
+        return context.put(PINNED_TO_PRIMARY, true);
+    }
+
+    static boolean isReadOnly(@NonNull final ContextView context) {
+        return context.getOrDefault(READ_ONLY, false);
+    }
+
+    public static boolean isPinnedToPrimary(@NonNull final ContextView context) {
+        return context.getOrDefault(PINNED_TO_PRIMARY, false);
+    }
+}
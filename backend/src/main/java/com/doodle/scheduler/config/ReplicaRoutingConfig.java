@@ -0,0 +1,87 @@
+package com.doodle.scheduler.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import lombok.NonNull;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.r2dbc.ConnectionPoolMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.r2dbc.ConnectionFactoryOptionsBuilderCustomizer;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "scheduler.replica.enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    private static final String PRIMARY_POOL = "primary";
+    private static final String REPLICA_POOL = "replica";
+
+    @Bean(destroyMethod = "dispose")
+    public RoutingConnectionFactory connectionFactory(
+            final R2dbcProperties properties,
+            final ObjectProvider<ConnectionFactoryOptionsBuilderCustomizer> customizers,
+            final MeterRegistry meterRegistry,
+            @Value("${scheduler.replica.url}") final String replicaUrl,
+            @Value("${scheduler.replica.username:${spring.r2dbc.username:}}") final String replicaUsername,
+            @Value("${scheduler.replica.password:${spring.r2dbc.password:}}") final String replicaPassword,
+            @Value("${scheduler.replica.max-size:20}") final int replicaMaxSize,
+            @Value("${scheduler.replica.max-lag:2s}") final Duration maxLag,
+            @Value("${scheduler.replica.lag-check-interval:1s}") final Duration lagCheckInterval) {
+        final var primary = pool(PRIMARY_POOL, properties.getUrl(), properties.getUsername(), properties.getPassword(),
+                properties.getPool(), properties.getPool().getMaxSize(), customizers);
+        final var replica = pool(REPLICA_POOL, replicaUrl, replicaUsername, replicaPassword,
+                properties.getPool(), replicaMaxSize, customizers);
+        new ConnectionPoolMetrics(replica, REPLICA_POOL, Tags.empty()).bindTo(meterRegistry);
+        return new RoutingConnectionFactory(primary, replica,
+                new ReplicaLagMonitor(replica, meterRegistry, maxLag, lagCheckInterval), meterRegistry);
+    }
+
+    @Bean
+    public ReplicaStickinessFilter replicaStickinessFilter(
+            @Value("${scheduler.replica.sticky-window:5s}") final Duration stickyWindow) {
+        return new ReplicaStickinessFilter(stickyWindow);
+    }
+
+    private static ConnectionPool pool(@NonNull final String name,
+                                       @NonNull final String url,
+                                       final String username,
+                                       final String password,
+                                       @NonNull final R2dbcProperties.Pool settings,
+                                       final int maxSize,
+                                       @NonNull final ObjectProvider<ConnectionFactoryOptionsBuilderCustomizer> customizers) {
+        final var options = ConnectionFactoryOptions.parse(url).mutate();
+        if (StringUtils.hasText(username)) {
+            options.option(ConnectionFactoryOptions.USER, username);
+        }
+        if (StringUtils.hasText(password)) {
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+        customizers.orderedStream().forEach(customizer -> customizer.customize(options));
+        final var configuration = ConnectionPoolConfiguration.builder(ConnectionFactories.get(options.build()))
+                .name(name)
+                .initialSize(Math.min(settings.getInitialSize(), maxSize))
+                .maxSize(maxSize)
+                .maxIdleTime(settings.getMaxIdleTime())
+                .validationDepth(settings.getValidationDepth());
+        if (settings.getMaxLifeTime() != null) {
+            configuration.maxLifeTime(settings.getMaxLifeTime());
+        }
+        if (settings.getMaxAcquireTime() != null) {
+            configuration.maxAcquireTime(settings.getMaxAcquireTime());
+        }
+        if (StringUtils.hasText(settings.getValidationQuery())) {
+            configuration.validationQuery(settings.getValidationQuery());
+        }
+        return new ConnectionPool(configuration.build());
+    }
+}
@@ -0,0 +1,50 @@
+package com.doodle.scheduler.config;
+
+import lombok.NonNull;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Set;
+
+public class ReplicaStickinessFilter implements WebFilter {
+
+    static final String COOKIE_READ_PRIMARY = "read-primary";
+    private static final String COOKIE_PATH = "/";
+    private static final String COOKIE_SAME_SITE = "Lax";
+    private static final Set<HttpMethod> READ_METHODS = Set.of(HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS);
+
+    private final Duration stickyWindow;
+
+    public ReplicaStickinessFilter(@NonNull final Duration stickyWindow) {
+        this.stickyWindow = stickyWindow;
+    }
+
+    @Override
+    public Mono<Void> filter(@NonNull final ServerWebExchange exchange, @NonNull final WebFilterChain chain) {
+        final var request = exchange.getRequest();
+        if (!READ_METHODS.contains(request.getMethod())) {
+            final var response = exchange.getResponse();
+            response.beforeCommit(() -> {
+                if (response.getStatusCode() != null && response.getStatusCode().is2xxSuccessful()) {
+                    response.addCookie(ResponseCookie.from(COOKIE_READ_PRIMARY, "1")
+                            .maxAge(stickyWindow)
+                            .path(COOKIE_PATH)
+                            .httpOnly(true)
+                            .sameSite(COOKIE_SAME_SITE)
+                            .build());
+                }
+                return Mono.empty();
+            });
+            return chain.filter(exchange);
+        }
+        if (request.getCookies().containsKey(COOKIE_READ_PRIMARY)) {
+            return chain.filter(exchange).contextWrite(ReplicaRouting::pinToPrimary);
+        }
+        return chain.filter(exchange);
+    }
+}
@@ -0,0 +1,87 @@
+package com.doodle.scheduler.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Wrapped;
+import lombok.NonNull;
+import org.springframework.r2dbc.connection.lookup.AbstractRoutingConnectionFactory;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+public class RoutingConnectionFactory extends AbstractRoutingConnectionFactory
+        implements Wrapped<ConnectionFactory>, Disposable {
+
+    static final String METRIC_ROUTED = "db_connections_routed_total";
+    static final String METRIC_REPLICA_FALLBACKS = "replica_fallbacks_total";
+    private static final String TAG_TARGET = "target";
+
+    enum Target { PRIMARY, REPLICA }
+
+    private final ConnectionFactory primary;
+    private final ConnectionFactory replica;
+    private final ReplicaLagMonitor lagMonitor;
+    private final MeterRegistry meterRegistry;
+    private volatile boolean disposed;
+
+    public RoutingConnectionFactory(@NonNull final ConnectionFactory primary,
+                                    @NonNull final ConnectionFactory replica,
+                                    @NonNull final ReplicaLagMonitor lagMonitor,
+                                    @NonNull final MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.lagMonitor = lagMonitor;
+        this.meterRegistry = meterRegistry;
+        setTargetConnectionFactories(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetConnectionFactory(primary);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        lagMonitor.start();
+    }
+
+    @Override
+    protected Mono<Object> determineCurrentLookupKey() {
+        return Mono.deferContextual(context -> {
+            if (!ReplicaRouting.isReadOnly(context) || ReplicaRouting.isPinnedToPrimary(context)) {
+                return Mono.just(Target.PRIMARY);
+            }
+            return TransactionSynchronizationManager.forCurrentTransaction()
+                    .map(transaction -> Target.PRIMARY)
+                    .onErrorResume(NoTransactionException.class, ex -> {
+                        if (lagMonitor.isReplicaUsable()) {
+                            return Mono.just(Target.REPLICA);
+                        }
+                        meterRegistry.counter(METRIC_REPLICA_FALLBACKS).increment();
+                        return Mono.just(Target.PRIMARY);
+                    });
+        }).doOnNext(target -> meterRegistry.counter(METRIC_ROUTED, TAG_TARGET, target.name().toLowerCase()).increment())
+                .cast(Object.class);
+    }
+
+    @Override
+    public ConnectionFactory unwrap() {
+        return primary;
+    }
+
+    @Override
+    public void dispose() {
+        disposed = true;
+        lagMonitor.stop();
+        for (final var target : new ConnectionFactory[]{primary, replica}) {
+            if (target instanceof Disposable disposable) {
+                disposable.dispose();
+            }
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return disposed;
+    }
+}
@@ -0,0 +1,59 @@
+package com.doodle.scheduler.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.Wrapped;
+import lombok.NonNull;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+public class TimedConnectionFactory implements ConnectionFactory, Wrapped<ConnectionFactory>, Disposable {
+
+    static final String METRIC_ACQUIRE = "r2dbc.pool.acquire";
+    private static final String TAG_OUTCOME = "outcome";
+    private static final String OUTCOME_SUCCESS = "success";
+    private static final String OUTCOME_ERROR = "error";
+
+    private final ConnectionFactory delegate;
+    private final MeterRegistry meterRegistry;
+
+    public TimedConnectionFactory(@NonNull final ConnectionFactory delegate, @NonNull final MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Mono<Connection> create() {
+        return Mono.defer(() -> {
+            final var sample = Timer.start(meterRegistry);
+            return Mono.<Connection>from(delegate.create())
+                    .doOnNext(connection -> sample.stop(meterRegistry.timer(METRIC_ACQUIRE, TAG_OUTCOME, OUTCOME_SUCCESS)))
+                    .doOnError(ex -> sample.stop(meterRegistry.timer(METRIC_ACQUIRE, TAG_OUTCOME, OUTCOME_ERROR)));
+        });
+    }
+
+    @Override
+    public ConnectionFactoryMetadata getMetadata() {
+        return delegate.getMetadata();
+    }
+
+    @Override
+    public ConnectionFactory unwrap() {
+        return delegate;
+    }
+
+    @Override
+    public void dispose() {
+        if (delegate instanceof Disposable disposable) {
+            disposable.dispose();
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return delegate instanceof Disposable disposable && disposable.isDisposed();
+    }
+}
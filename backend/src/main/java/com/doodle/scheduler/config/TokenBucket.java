@@ -0,0 +1,30 @@
+package com.doodle.scheduler.config;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+final class TokenBucket {
+
+    private final long nanosPerToken;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+    TokenBucket(final double tokensPerSecond, final int burst) {
+        this.nanosPerToken = (long) (Duration.ofSeconds(1).toNanos() / tokensPerSecond);
+        this.burstNanos = burst * nanosPerToken;
+    }
+
+    long tryAcquire(final int tokens, final long nowNanos) {
+        while (true) {
+            final var arrival = theoreticalArrival.get();
+            final var next = Math.max(arrival, nowNanos) + tokens * nanosPerToken;
+            final var wait = next - nowNanos - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(arrival, next)) {
+                return 0;
+            }
+        }
+    }
+}
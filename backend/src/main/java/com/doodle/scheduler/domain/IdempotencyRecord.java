@@ -0,0 +1,18 @@
+package com.doodle.scheduler.domain;
+
+import lombok.Builder;
+import lombok.NonNull;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+@Table("idempotency_keys")
+@Builder
+public record IdempotencyRecord(
+        @Id byte[] id,
+        @NonNull byte[] requestHash,
+        int status,
+        @NonNull byte[] body,
+        @NonNull LocalDateTime expiresAt
+) {}
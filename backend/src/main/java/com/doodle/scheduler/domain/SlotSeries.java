@@ -0,0 +1,28 @@
+package com.doodle.scheduler.domain;
+
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.With;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+@Table("slot_series")
+@Builder
+@With
+public record SlotSeries(
+        @Id UUID id,
+        @NonNull UUID calendarId,
+        @NonNull Integer daysOfWeekMask,
+        @NonNull LocalTime dayStart,
+        @NonNull LocalTime dayEnd,
+        @NonNull Integer slotMinutes,
+        @NonNull LocalDate startDate,
+        @NonNull LocalDate endDate,
+        @CreatedDate LocalDateTime createdAt
+) {}
@@ -20,5 +20,6 @@ public record TimeSlot(
         @NonNull LocalDateTime endTime,
         @NonNull SlotStatus status,
         UUID meetingId,
+        UUID seriesId,
         @CreatedDate LocalDateTime createdAt
 ) {}
@@ -0,0 +1,15 @@
+package com.doodle.scheduler.dto;
+
+import com.doodle.scheduler.domain.SlotStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public record AvailabilityBlock(
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        SlotStatus status,
+        int slotCount,
+        List<UUID> slotIds
+) {}
@@ -0,0 +1,15 @@
+package com.doodle.scheduler.dto;
+
+import com.doodle.scheduler.domain.TimeSlot;
+
+public record BatchSlotResult(
+        int index,
+        Outcome outcome,
+        TimeSlot slot,
+        String error
+) {
+
+    public enum Outcome {
+        CREATED, CONFLICT, INVALID
+    }
+}
@@ -0,0 +1,13 @@
+package com.doodle.scheduler.dto;
+
+import java.util.UUID;
+
+public record CalendarChangeEvent(
+        UUID calendarId,
+        Operation operation
+) {
+
+    public enum Operation {
+        INSERT, UPDATE, DELETE
+    }
+}
@@ -0,0 +1,15 @@
+package com.doodle.scheduler.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public record CommonAvailabilityRequest(
+        @NotEmpty List<UUID> userIds,
+        @NotNull LocalDateTime from,
+        @NotNull LocalDateTime to,
+        @NotNull Integer durationMinutes
+) {}
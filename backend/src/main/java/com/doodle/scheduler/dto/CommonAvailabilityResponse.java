@@ -0,0 +1,8 @@
+package com.doodle.scheduler.dto;
+
+import java.time.LocalDateTime;
+
+public record CommonAvailabilityResponse(
+        LocalDateTime startTime,
+        LocalDateTime endTime
+) {}
@@ -0,0 +1,18 @@
+package com.doodle.scheduler.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+
+public record CreateSlotSeriesRequest(
+        @NotEmpty Set<DayOfWeek> daysOfWeek,
+        @NotNull LocalTime dayStart,
+        @NotNull LocalTime dayEnd,
+        @NotNull Integer slotMinutes,
+        @NotNull LocalDate startDate,
+        @NotNull LocalDate endDate
+) {}
@@ -0,0 +1,9 @@
+package com.doodle.scheduler.dto;
+
+import java.util.List;
+
+public record CursorPage<T>(
+        List<T> items,
+        String nextCursor,
+        String version
+) {}
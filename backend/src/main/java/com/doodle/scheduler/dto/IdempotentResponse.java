@@ -0,0 +1,7 @@
+package com.doodle.scheduler.dto;
+
+public record IdempotentResponse(
+        int status,
+        byte[] body,
+        boolean replayed
+) {}
@@ -0,0 +1,29 @@
+package com.doodle.scheduler.dto;
+
+import com.doodle.scheduler.domain.SlotStatus;
+import com.doodle.scheduler.domain.TimeSlot;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record InsertedSlot(
+        long ordinal,
+        UUID id,
+        UUID calendarId,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        SlotStatus status,
+        LocalDateTime createdAt
+) {
+
+    public TimeSlot toTimeSlot() {
+        return TimeSlot.builder()
+                .id(id)
+                .calendarId(calendarId)
+                .startTime(startTime)
+                .endTime(endTime)
+                .status(status)
+                .createdAt(createdAt)
+                .build();
+    }
+}
@@ -0,0 +1,37 @@
+package com.doodle.scheduler.dto;
+
+import lombok.NonNull;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+public record SlotCursor(
+        LocalDateTime startTime,
+        UUID id
+) {
+
+    private static final String ERR_INVALID_CURSOR = "Invalid cursor";
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        final var raw = startTime + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SlotCursor decode(@NonNull final String cursor) {
+        try {
+            final var raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            final var separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException(ERR_INVALID_CURSOR);
+            }
+            return new SlotCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException(ERR_INVALID_CURSOR, ex);
+        }
+    }
+}
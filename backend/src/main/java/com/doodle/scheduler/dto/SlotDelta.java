@@ -0,0 +1,12 @@
+package com.doodle.scheduler.dto;
+
+import com.doodle.scheduler.domain.TimeSlot;
+
+import java.util.List;
+import java.util.UUID;
+
+public record SlotDelta(
+        List<TimeSlot> upserted,
+        List<UUID> deleted,
+        String token
+) {}
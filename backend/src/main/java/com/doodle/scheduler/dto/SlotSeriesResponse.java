@@ -0,0 +1,20 @@
+package com.doodle.scheduler.dto;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+import java.util.UUID;
+
+public record SlotSeriesResponse(
+        UUID id,
+        UUID calendarId,
+        Set<DayOfWeek> daysOfWeek,
+        LocalTime dayStart,
+        LocalTime dayEnd,
+        int slotMinutes,
+        LocalDate startDate,
+        LocalDate endDate,
+        long slotsCreated,
+        long slotsRemoved
+) {}
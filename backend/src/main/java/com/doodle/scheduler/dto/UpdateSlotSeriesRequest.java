@@ -0,0 +1,9 @@
+package com.doodle.scheduler.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+
+public record UpdateSlotSeriesRequest(
+        @NotNull LocalDate endDate
+) {}
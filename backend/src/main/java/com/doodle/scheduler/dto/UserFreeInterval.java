@@ -0,0 +1,10 @@
+package com.doodle.scheduler.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record UserFreeInterval(
+        UUID userId,
+        LocalDateTime startTime,
+        LocalDateTime endTime
+) {}
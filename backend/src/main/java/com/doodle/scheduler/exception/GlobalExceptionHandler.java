@@ -13,6 +13,7 @@ public class GlobalExceptionHandler {
             UserNotFoundException.class,
             CalendarNotFoundException.class,
             SlotNotFoundException.class,
+            SlotSeriesNotFoundException.class,
             MeetingNotFoundException.class
     })
     public ProblemDetail handleNotFound(final RuntimeException ex, final ServerWebExchange exchange) {
@@ -30,6 +31,16 @@ public class GlobalExceptionHandler {
         return ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, ex.getMessage());
     }
 
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    public ProblemDetail handleUnprocessable(final IdempotencyKeyReusedException ex, final ServerWebExchange exchange) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.UNPROCESSABLE_ENTITY, ex.getMessage());
+    }
+
+    @ExceptionHandler(SyncTokenExpiredException.class)
+    public ProblemDetail handleGone(final SyncTokenExpiredException ex, final ServerWebExchange exchange) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.GONE, ex.getMessage());
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ProblemDetail handleBadRequest(final IllegalArgumentException ex, final ServerWebExchange exchange) {
         return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, ex.getMessage());
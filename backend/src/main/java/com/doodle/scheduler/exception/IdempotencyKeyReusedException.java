@@ -0,0 +1,8 @@
+package com.doodle.scheduler.exception;
+
+public class IdempotencyKeyReusedException extends RuntimeException {
+
+    public IdempotencyKeyReusedException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.doodle.scheduler.exception;
+
+public class SlotSeriesNotFoundException extends RuntimeException {
+
+    public SlotSeriesNotFoundException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.doodle.scheduler.exception;
+
+public class SyncTokenExpiredException extends RuntimeException {
+
+    public SyncTokenExpiredException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,50 @@
+package com.doodle.scheduler.handler;
+
+import com.doodle.scheduler.dto.IdempotentResponse;
+import com.doodle.scheduler.service.IdempotencyService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+@Component
+@RequiredArgsConstructor
+public class IdempotentRequests {
+
+    public static final String HEADER_IDEMPOTENCY_KEY = "Idempotency-Key";
+    public static final String HEADER_IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
+    private final IdempotencyService idempotencyService;
+    private final ObjectMapper objectMapper;
+
+    public <T> Mono<ServerResponse> respond(@NonNull final ServerRequest request,
+                                            @NonNull final Object requestBody,
+                                            @NonNull final HttpStatus status,
+                                            @NonNull final Supplier<Mono<T>> action) {
+        final var key = request.headers().firstHeader(HEADER_IDEMPOTENCY_KEY);
+        if (key == null) {
+            return action.get().flatMap(result -> ServerResponse.status(status).bodyValue(result));
+        }
+        final var scope = request.method().name() + ' ' + request.path();
+        return Mono.fromCallable(() -> objectMapper.writeValueAsBytes(requestBody))
+                .flatMap(fingerprint -> idempotencyService.execute(scope, key, fingerprint, () -> action.get()
+                        .flatMap(result -> Mono.fromCallable(() ->
+                                new IdempotentResponse(status.value(), objectMapper.writeValueAsBytes(result), false)))))
+                .flatMap(this::toServerResponse);
+    }
+
+    private Mono<ServerResponse> toServerResponse(@NonNull final IdempotentResponse response) {
+        final var builder = ServerResponse.status(response.status()).contentType(MediaType.APPLICATION_JSON);
+        if (response.replayed()) {
+            builder.header(HEADER_IDEMPOTENT_REPLAYED, Boolean.TRUE.toString());
+        }
+        return builder.bodyValue(response.body());
+    }
+}
@@ -6,6 +6,7 @@ import com.doodle.scheduler.service.MeetingService;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
@@ -21,11 +22,12 @@ public class MeetingHandler {
     private static final String PATH_USER_ID = "userId";
 
     private final MeetingService meetingService;
+    private final IdempotentRequests idempotentRequests;
 
     public Mono<ServerResponse> schedule(@NonNull final ServerRequest request) {
         return request.bodyToMono(CreateMeetingRequest.class)
-                .flatMap(meetingService::schedule)
-                .flatMap(meeting -> ServerResponse.status(HttpStatus.CREATED).bodyValue(meeting));
+                .flatMap(req -> idempotentRequests.respond(request, req, HttpStatus.CREATED,
+                        () -> meetingService.schedule(req)));
     }
 
     public Mono<ServerResponse> findById(@NonNull final ServerRequest request) {
@@ -36,6 +38,9 @@ public class MeetingHandler {
 
     public Mono<ServerResponse> findByUser(@NonNull final ServerRequest request) {
         final var userId = UUID.fromString(request.pathVariable(PATH_USER_ID));
-        return ServerResponse.ok().body(meetingService.findByUser(userId), MeetingResponse.class);
+        final var mediaType = StreamingMediaTypes.negotiate(request).orElse(MediaType.APPLICATION_JSON);
+        return ServerResponse.ok()
+                .contentType(mediaType)
+                .body(meetingService.findByUser(userId), MeetingResponse.class);
     }
 }
@@ -0,0 +1,38 @@
+package com.doodle.scheduler.handler;
+
+import com.doodle.scheduler.dto.CreateSlotSeriesRequest;
+import com.doodle.scheduler.dto.UpdateSlotSeriesRequest;
+import com.doodle.scheduler.service.SlotSeriesService;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class SlotSeriesHandler {
+
+    private static final String PATH_CALENDAR_ID = "calendarId";
+    private static final String PATH_SERIES_ID = "seriesId";
+
+    private final SlotSeriesService slotSeriesService;
+
+    public Mono<ServerResponse> create(@NonNull final ServerRequest request) {
+        final var calendarId = UUID.fromString(request.pathVariable(PATH_CALENDAR_ID));
+        return request.bodyToMono(CreateSlotSeriesRequest.class)
+                .flatMap(req -> slotSeriesService.create(calendarId, req))
+                .flatMap(series -> ServerResponse.status(HttpStatus.CREATED).bodyValue(series));
+    }
+
+    public Mono<ServerResponse> updateEndDate(@NonNull final ServerRequest request) {
+        final var seriesId = UUID.fromString(request.pathVariable(PATH_SERIES_ID));
+        return request.bodyToMono(UpdateSlotSeriesRequest.class)
+                .flatMap(req -> slotSeriesService.updateEndDate(seriesId, req))
+                .flatMap(series -> ServerResponse.ok().bodyValue(series));
+    }
+}
@@ -0,0 +1,32 @@
+package com.doodle.scheduler.handler;
+
+import lombok.NonNull;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.ServerRequest;
+
+import java.util.List;
+import java.util.Optional;
+
+final class StreamingMediaTypes {
+
+    private static final List<MediaType> STREAMING = List.of(MediaType.APPLICATION_NDJSON, MediaType.TEXT_EVENT_STREAM);
+
+    private StreamingMediaTypes() {
+    }
+
+    static Optional<MediaType> negotiate(@NonNull final ServerRequest request) {
+        for (final var candidate : request.headers().accept()) {
+            if (candidate.isWildcardType() || candidate.isWildcardSubtype()
+                    || candidate.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return Optional.empty();
+            }
+            final var streaming = STREAMING.stream()
+                    .filter(candidate::isCompatibleWith)
+                    .findFirst();
+            if (streaming.isPresent()) {
+                return streaming;
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -2,20 +2,32 @@ package com.doodle.scheduler.handler;
 
 import com.doodle.scheduler.domain.SlotStatus;
 import com.doodle.scheduler.domain.TimeSlot;
+import com.doodle.scheduler.dto.AvailabilityBlock;
 import com.doodle.scheduler.dto.AvailabilityResponse;
+import com.doodle.scheduler.dto.CalendarChangeEvent;
+import com.doodle.scheduler.dto.CommonAvailabilityRequest;
+import com.doodle.scheduler.dto.CommonAvailabilityResponse;
 import com.doodle.scheduler.dto.CreateSlotRequest;
+import com.doodle.scheduler.dto.CursorPage;
 import com.doodle.scheduler.dto.UpdateSlotRequest;
 import com.doodle.scheduler.service.TimeSlotService;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 @Component
 @RequiredArgsConstructor
@@ -27,14 +39,31 @@ public class TimeSlotHandler {
     private static final String QUERY_STATUS = "status";
     private static final String QUERY_FROM = "from";
     private static final String QUERY_TO = "to";
+    private static final String QUERY_CURSOR = "cursor";
+    private static final String QUERY_LIMIT = "limit";
+    private static final String QUERY_COALESCE = "coalesce";
+    private static final String QUERY_INCLUDE_SLOT_IDS = "includeSlotIds";
+    private static final String QUERY_SINCE = "since";
+    private static final String HEARTBEAT_COMMENT = "heartbeat";
+    private static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(15);
+    public static final String HEADER_NEXT_CURSOR = "X-Next-Cursor";
 
     private final TimeSlotService timeSlotService;
+    private final IdempotentRequests idempotentRequests;
 
     public Mono<ServerResponse> create(@NonNull final ServerRequest request) {
         final var calendarId = UUID.fromString(request.pathVariable(PATH_CALENDAR_ID));
         return request.bodyToMono(CreateSlotRequest.class)
-                .flatMap(req -> timeSlotService.create(calendarId, req))
-                .flatMap(slot -> ServerResponse.status(HttpStatus.CREATED).bodyValue(slot));
+                .flatMap(req -> idempotentRequests.respond(request, req, HttpStatus.CREATED,
+                        () -> timeSlotService.create(calendarId, req)));
+    }
+
+    public Mono<ServerResponse> createBatch(@NonNull final ServerRequest request) {
+        final var calendarId = UUID.fromString(request.pathVariable(PATH_CALENDAR_ID));
+        return request.bodyToFlux(CreateSlotRequest.class)
+                .collectList()
+                .flatMap(reqs -> idempotentRequests.respond(request, reqs, HttpStatus.OK,
+                        () -> timeSlotService.createBatch(calendarId, reqs)));
     }
 
     public Mono<ServerResponse> update(@NonNull final ServerRequest request) {
@@ -61,7 +90,49 @@ public class TimeSlotHandler {
         final var to = request.queryParam(QUERY_TO)
                 .map(LocalDateTime::parse)
                 .orElse(null);
-        return ServerResponse.ok().body(timeSlotService.findByCalendar(calendarId, status, from, to), TimeSlot.class);
+        final var streaming = StreamingMediaTypes.negotiate(request);
+        if (streaming.isPresent()) {
+            return ServerResponse.ok()
+                    .contentType(streaming.get())
+                    .body(timeSlotService.streamByCalendar(calendarId, status, from, to), TimeSlot.class);
+        }
+        final var cursor = request.queryParam(QUERY_CURSOR).orElse(null);
+        final var limit = request.queryParam(QUERY_LIMIT)
+                .map(Integer::valueOf)
+                .orElse(null);
+        if (cursor == null && limit == null) {
+            return conditional(request, () -> timeSlotService.findCalendarVersion(calendarId),
+                    () -> timeSlotService.findCalendarVersion(calendarId)
+                            .flatMap(version -> listResponse(version,
+                                    timeSlotService.streamByCalendar(calendarId, status, from, to), TimeSlot.class)));
+        }
+        return conditional(request, () -> timeSlotService.findCalendarVersion(calendarId),
+                () -> timeSlotService.findByCalendar(calendarId, status, from, to, cursor, limit)
+                        .flatMap(this::pageResponse));
+    }
+
+    public Mono<ServerResponse> findDelta(@NonNull final ServerRequest request) {
+        final var calendarId = UUID.fromString(request.pathVariable(PATH_CALENDAR_ID));
+        final var since = request.queryParam(QUERY_SINCE)
+                .map(Long::valueOf)
+                .orElse(null);
+        return timeSlotService.findDelta(calendarId, since)
+                .flatMap(delta -> ServerResponse.ok().bodyValue(delta));
+    }
+
+    public Mono<ServerResponse> watchChanges(@NonNull final ServerRequest request) {
+        final var calendarId = UUID.fromString(request.pathVariable(PATH_CALENDAR_ID));
+        final var heartbeats = Flux.interval(Duration.ZERO, HEARTBEAT_INTERVAL)
+                .map(tick -> ServerSentEvent.<CalendarChangeEvent>builder()
+                        .comment(HEARTBEAT_COMMENT)
+                        .build());
+        return timeSlotService.watchChanges(calendarId)
+                .flatMap(changes -> ServerResponse.ok()
+                        .contentType(MediaType.TEXT_EVENT_STREAM)
+                        .body(Flux.merge(changes.map(change -> ServerSentEvent.builder(change)
+                                        .event(change.operation().name())
+                                        .build()), heartbeats),
+                                new ParameterizedTypeReference<ServerSentEvent<CalendarChangeEvent>>() {}));
     }
 
     public Mono<ServerResponse> getAvailability(@NonNull final ServerRequest request) {
@@ -72,9 +143,75 @@ public class TimeSlotHandler {
         final var to = request.queryParam(QUERY_TO)
                 .map(LocalDateTime::parse)
                 .orElse(LocalDateTime.now().plusDays(7));
-        return ServerResponse.ok().body(
-                timeSlotService.getAvailability(userId, from, to),
-                AvailabilityResponse.class
-        );
+        if (request.queryParam(QUERY_COALESCE).map(Boolean::parseBoolean).orElse(false)) {
+            final var includeSlotIds = request.queryParam(QUERY_INCLUDE_SLOT_IDS).map(Boolean::parseBoolean).orElse(false);
+            return ServerResponse.ok().body(
+                    timeSlotService.getCoalescedAvailability(userId, from, to, includeSlotIds),
+                    AvailabilityBlock.class);
+        }
+        final var cursor = request.queryParam(QUERY_CURSOR).orElse(null);
+        final var limit = request.queryParam(QUERY_LIMIT)
+                .map(Integer::valueOf)
+                .orElse(null);
+        final var unbounded = request.queryParam(QUERY_FROM).isEmpty() || request.queryParam(QUERY_TO).isEmpty();
+        if (cursor == null && limit == null) {
+            if (unbounded) {
+                return listResponse(null, timeSlotService.streamAvailability(userId, from, to), AvailabilityResponse.class);
+            }
+            return conditional(request, () -> timeSlotService.findAvailabilityVersion(userId),
+                    () -> timeSlotService.findAvailabilityVersion(userId)
+                            .flatMap(version -> listResponse(version,
+                                    timeSlotService.streamAvailability(userId, from, to), AvailabilityResponse.class)));
+        }
+        if (unbounded) {
+            return timeSlotService.getAvailability(userId, from, to, cursor, limit)
+                    .flatMap(page -> pageResponse(new CursorPage<>(page.items(), page.nextCursor(), null)));
+        }
+        return conditional(request, () -> timeSlotService.findAvailabilityVersion(userId),
+                () -> timeSlotService.getAvailability(userId, from, to, cursor, limit)
+                        .flatMap(this::pageResponse));
+    }
+
+    public Mono<ServerResponse> findCommonAvailability(@NonNull final ServerRequest request) {
+        return request.bodyToMono(CommonAvailabilityRequest.class)
+                .flatMap(req -> ServerResponse.ok().body(
+                        timeSlotService.findCommonAvailability(req),
+                        CommonAvailabilityResponse.class));
+    }
+
+    private Mono<ServerResponse> conditional(@NonNull final ServerRequest request,
+                                             @NonNull final Supplier<Mono<String>> version,
+                                             @NonNull final Supplier<Mono<ServerResponse>> response) {
+        if (request.headers().header(HttpHeaders.IF_NONE_MATCH).isEmpty()) {
+            return response.get();
+        }
+        return version.get()
+                .flatMap(current -> request.checkNotModified(eTag(current)))
+                .switchIfEmpty(Mono.defer(response));
+    }
+
+    private Mono<ServerResponse> pageResponse(@NonNull final CursorPage<?> page) {
+        final var response = ServerResponse.ok();
+        if (page.nextCursor() != null) {
+            response.header(HEADER_NEXT_CURSOR, page.nextCursor());
+        }
+        if (page.version() != null) {
+            response.eTag(eTag(page.version()));
+        }
+        return response.bodyValue(page.items());
+    }
+
+    private <T> Mono<ServerResponse> listResponse(final String version,
+                                                  @NonNull final Flux<T> items,
+                                                  @NonNull final Class<T> type) {
+        final var response = ServerResponse.ok();
+        if (version != null) {
+            response.eTag(eTag(version));
+        }
+        return response.body(items, type);
+    }
+
+    private static String eTag(@NonNull final String version) {
+        return "\"" + version + "\"";
     }
 }
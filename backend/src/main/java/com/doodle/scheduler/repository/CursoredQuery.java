@@ -0,0 +1,34 @@
+package com.doodle.scheduler.repository;
+
+import lombok.NonNull;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+final class CursoredQuery {
+
+    static final int FETCH_SIZE = 500;
+
+    private final R2dbcEntityTemplate template;
+    private DatabaseClient.GenericExecuteSpec spec;
+
+    CursoredQuery(@NonNull final R2dbcEntityTemplate template, @NonNull final String sql) {
+        this.template = template;
+        this.spec = template.getDatabaseClient().sql(sql);
+    }
+
+    CursoredQuery bind(@NonNull final String name, final Object value, @NonNull final Class<?> type) {
+        spec = value != null ? spec.bind(name, value) : spec.bindNull(name, type);
+        return this;
+    }
+
+    <T> Flux<T> fetch(@NonNull final Class<T> type) {
+        final var converter = template.getConverter();
+        return spec.filter((statement, next) -> {
+                    statement.fetchSize(FETCH_SIZE);
+                    return next.execute(statement);
+                })
+                .map((row, metadata) -> converter.read(type, row, metadata))
+                .all();
+    }
+}
@@ -0,0 +1,41 @@
+package com.doodle.scheduler.repository;
+
+import com.doodle.scheduler.domain.IdempotencyRecord;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface IdempotencyKeyRepository extends ReactiveCrudRepository<IdempotencyRecord, byte[]> {
+
+    @Modifying
+    @Query("""
+            INSERT INTO idempotency_keys (id, request_hash, status, body, expires_at)
+            VALUES (:id, :requestHash, 0, '', :expiresAt)
+            ON CONFLICT (id) DO UPDATE
+                SET request_hash = EXCLUDED.request_hash,
+                    status = EXCLUDED.status,
+                    body = EXCLUDED.body,
+                    expires_at = EXCLUDED.expires_at
+                WHERE idempotency_keys.expires_at < :now
+            """)
+    Mono<Integer> reserve(byte[] id, byte[] requestHash, LocalDateTime now, LocalDateTime expiresAt);
+
+    @Modifying
+    @Query("UPDATE idempotency_keys SET status = :status, body = :body WHERE id = :id")
+    Mono<Integer> complete(byte[] id, int status, byte[] body);
+
+    @Query("SELECT * FROM idempotency_keys WHERE id = :id AND expires_at >= :now")
+    Mono<IdempotencyRecord> findActive(byte[] id, LocalDateTime now);
+
+    @Modifying
+    @Query("""
+            DELETE FROM idempotency_keys
+            WHERE id IN (SELECT id FROM idempotency_keys WHERE expires_at < :now LIMIT :batchSize)
+            """)
+    Mono<Integer> deleteExpired(LocalDateTime now, int batchSize);
+}
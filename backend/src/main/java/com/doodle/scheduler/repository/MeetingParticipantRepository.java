@@ -1,6 +1,7 @@
 package com.doodle.scheduler.repository;
 
 import com.doodle.scheduler.domain.MeetingParticipant;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
@@ -11,4 +12,13 @@ import java.util.UUID;
 public interface MeetingParticipantRepository extends ReactiveCrudRepository<MeetingParticipant, UUID> {
 
     Flux<MeetingParticipant> findAllByMeetingId(UUID meetingId);
+
+    @Query("""
+            INSERT INTO meeting_participants (meeting_id, user_id)
+            SELECT :meetingId, u.id
+            FROM users u
+            WHERE u.id = ANY(CAST(:userIds AS uuid[]))
+            RETURNING user_id
+            """)
+    Flux<UUID> insertForExistingUsers(UUID meetingId, UUID[] userIds);
 }
@@ -1,14 +1,82 @@
 package com.doodle.scheduler.repository;
 
 import com.doodle.scheduler.domain.Meeting;
+import com.doodle.scheduler.dto.MeetingResponse;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import org.springframework.stereotype.Repository;
-import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Repository
-public interface MeetingRepository extends ReactiveCrudRepository<Meeting, UUID> {
+public interface MeetingRepository extends ReactiveCrudRepository<Meeting, UUID>, MeetingStreamRepository {
 
-    Flux<Meeting> findAllByOrganizerId(UUID organizerId);
+    @Query("""
+            SELECT m.id, m.title, m.description, m.organizer_id, m.slot_id,
+                   ts.start_time, ts.end_time,
+                   COALESCE(array_agg(mp.user_id) FILTER (WHERE mp.user_id IS NOT NULL), '{}') AS participant_ids,
+                   m.created_at
+            FROM meetings m
+            JOIN time_slots ts ON ts.id = m.slot_id
+            LEFT JOIN meeting_participants mp ON mp.meeting_id = m.id
+            WHERE m.id = :meetingId
+            GROUP BY m.id, ts.start_time, ts.end_time
+            """)
+    Mono<MeetingResponse> findResponseById(UUID meetingId);
+
+    @Query("""
+            WITH inserted AS (
+                INSERT INTO meetings (title, description, organizer_id, slot_id)
+                VALUES (:title, :description, :organizerId, :slotId)
+                RETURNING *
+            ), linked AS (
+                UPDATE time_slots
+                SET meeting_id = (SELECT id FROM inserted)
+                WHERE id = :slotId
+            )
+            SELECT * FROM inserted
+            """)
+    Mono<Meeting> insertLinkedToSlot(String title, String description, UUID organizerId, UUID slotId);
+
+    @Query("""
+            WITH expired AS (
+                SELECT m.id
+                FROM meetings m
+                JOIN time_slots ts ON ts.id = m.slot_id
+                WHERE ts.start_time < :cutoff
+                  AND ts.end_time < :cutoff
+                LIMIT :batchSize
+                FOR UPDATE OF m SKIP LOCKED
+            ), removed_participants AS (
+                DELETE FROM meeting_participants mp
+                USING expired
+                WHERE mp.meeting_id = expired.id
+                RETURNING mp.*
+            ), removed_slots AS (
+                DELETE FROM time_slots ts
+                USING expired
+                WHERE ts.meeting_id = expired.id
+                  AND ts.start_time < :cutoff
+                RETURNING ts.*
+            ), removed_meetings AS (
+                DELETE FROM meetings m
+                USING expired
+                WHERE m.id = expired.id
+                RETURNING m.*
+            ), archived_participants AS (
+                INSERT INTO meeting_participants_archive (id, meeting_id, user_id)
+                SELECT id, meeting_id, user_id FROM removed_participants
+            ), archived_slots AS (
+                INSERT INTO time_slots_archive (id, calendar_id, start_time, end_time, status, meeting_id, series_id, created_at)
+                SELECT id, calendar_id, start_time, end_time, status, meeting_id, series_id, created_at FROM removed_slots
+            ), archived_meetings AS (
+                INSERT INTO meetings_archive (id, title, description, organizer_id, slot_id, created_at)
+                SELECT id, title, description, organizer_id, slot_id, created_at FROM removed_meetings
+                RETURNING id
+            )
+            SELECT count(*) FROM archived_meetings
+            """)
+    Mono<Long> archiveExpiredMeetings(LocalDateTime cutoff, int batchSize);
 }
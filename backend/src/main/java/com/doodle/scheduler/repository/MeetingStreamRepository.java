@@ -0,0 +1,11 @@
+package com.doodle.scheduler.repository;
+
+import com.doodle.scheduler.dto.MeetingResponse;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+public interface MeetingStreamRepository {
+
+    Flux<MeetingResponse> streamResponsesByOrganizerId(UUID organizerId);
+}
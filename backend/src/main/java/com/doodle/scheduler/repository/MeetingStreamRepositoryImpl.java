@@ -0,0 +1,35 @@
+package com.doodle.scheduler.repository;
+
+import com.doodle.scheduler.dto.MeetingResponse;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+@RequiredArgsConstructor
+class MeetingStreamRepositoryImpl implements MeetingStreamRepository {
+
+    private static final String RESPONSES_BY_ORGANIZER = """
+            SELECT m.id, m.title, m.description, m.organizer_id, m.slot_id,
+                   ts.start_time, ts.end_time,
+                   COALESCE(array_agg(mp.user_id) FILTER (WHERE mp.user_id IS NOT NULL), '{}') AS participant_ids,
+                   m.created_at
+            FROM meetings m
+            JOIN time_slots ts ON ts.id = m.slot_id
+            LEFT JOIN meeting_participants mp ON mp.meeting_id = m.id
+            WHERE m.organizer_id = :organizerId
+            GROUP BY m.id, ts.start_time, ts.end_time
+            ORDER BY ts.start_time
+            """;
+
+    private final R2dbcEntityTemplate template;
+
+    @Override
+    public Flux<MeetingResponse> streamResponsesByOrganizerId(@NonNull final UUID organizerId) {
+        return new CursoredQuery(template, RESPONSES_BY_ORGANIZER)
+                .bind("organizerId", organizerId, UUID.class)
+                .fetch(MeetingResponse.class);
+    }
+}
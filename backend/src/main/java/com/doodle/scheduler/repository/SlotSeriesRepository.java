@@ -0,0 +1,11 @@
+package com.doodle.scheduler.repository;
+
+import com.doodle.scheduler.domain.SlotSeries;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface SlotSeriesRepository extends ReactiveCrudRepository<SlotSeries, UUID> {
+}
@@ -2,6 +2,9 @@ package com.doodle.scheduler.repository;
 
 import com.doodle.scheduler.domain.SlotStatus;
 import com.doodle.scheduler.domain.TimeSlot;
+import com.doodle.scheduler.dto.InsertedSlot;
+import com.doodle.scheduler.dto.UserFreeInterval;
+import org.springframework.data.r2dbc.repository.Modifying;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import org.springframework.stereotype.Repository;
@@ -12,36 +15,232 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Repository
-public interface TimeSlotRepository extends ReactiveCrudRepository<TimeSlot, UUID> {
+public interface TimeSlotRepository extends ReactiveCrudRepository<TimeSlot, UUID>, TimeSlotStreamRepository {
 
     @Query("""
             SELECT * FROM time_slots
             WHERE calendar_id = :calendarId
+              AND start_time >= COALESCE(GREATEST(:from, :afterStart), '-infinity')
+              AND start_time < COALESCE(:to, 'infinity')
               AND (:status IS NULL OR status = :status)
-              AND (:from IS NULL OR start_time >= :from)
               AND (:to IS NULL OR end_time <= :to)
-            ORDER BY start_time
+              AND (:afterStart IS NULL OR start_time > :afterStart OR id > :afterId)
+            ORDER BY start_time, id
+            LIMIT :limit
             """)
     Flux<TimeSlot> findByCalendarIdWithFilters(UUID calendarId,
                                                String status,
                                                LocalDateTime from,
-                                               LocalDateTime to);
+                                               LocalDateTime to,
+                                               LocalDateTime afterStart,
+                                               UUID afterId,
+                                               int limit);
 
     @Query("""
-            SELECT COUNT(*) FROM time_slots
-            WHERE calendar_id = :calendarId
-              AND start_time < :endTime
-              AND end_time > :startTime
+            SELECT ts.* FROM time_slots ts
+            JOIN calendars c ON c.id = ts.calendar_id
+            WHERE c.user_id = :userId
+              AND ts.start_time >= GREATEST(:from, :afterStart)
+              AND ts.start_time < :to
+              AND ts.end_time <= :to
+              AND (:afterStart IS NULL OR ts.start_time > :afterStart OR ts.id > :afterId)
+            ORDER BY ts.start_time, ts.id
+            LIMIT :limit
             """)
-    Mono<Long> countOverlapping(UUID calendarId, LocalDateTime startTime, LocalDateTime endTime);
+    Flux<TimeSlot> findByUserIdAndTimeRange(UUID userId,
+                                            LocalDateTime from,
+                                            LocalDateTime to,
+                                            LocalDateTime afterStart,
+                                            UUID afterId,
+                                            int limit);
 
     @Query("""
-            SELECT ts.* FROM time_slots ts
+            SELECT c.user_id, ts.start_time, ts.end_time
+            FROM time_slots ts
             JOIN calendars c ON c.id = ts.calendar_id
-            WHERE c.user_id = :userId
-              AND start_time >= :from
-              AND end_time <= :to
+            WHERE c.user_id = ANY(CAST(:userIds AS uuid[]))
+              AND ts.status = 'FREE'
+              AND ts.start_time > :from - INTERVAL '31 days'
+              AND ts.start_time < :to
+              AND ts.end_time > :from
+            ORDER BY ts.start_time
+            """)
+    Flux<UserFreeInterval> findFreeIntervalsForUsers(UUID[] userIds, LocalDateTime from, LocalDateTime to);
+
+    @Query("""
+            SELECT * FROM time_slots
+            WHERE calendar_id = :calendarId
+              AND start_time > :from - INTERVAL '31 days'
+              AND start_time < :to
+              AND end_time > :from
             ORDER BY start_time
             """)
-    Flux<TimeSlot> findByUserIdAndTimeRange(UUID userId, LocalDateTime from, LocalDateTime to);
+    Flux<TimeSlot> findOverlappingRange(UUID calendarId, LocalDateTime from, LocalDateTime to);
+
+    @Query("""
+            WITH input AS (
+                SELECT t.start_time, t.end_time, t.ordinal
+                FROM unnest(CAST(:startTimes AS timestamp[]), CAST(:endTimes AS timestamp[]))
+                     WITH ORDINALITY AS t(start_time, end_time, ordinal)
+            ), inserted AS (
+                INSERT INTO time_slots (calendar_id, start_time, end_time, status)
+                SELECT :calendarId, start_time, end_time, 'FREE'
+                FROM input
+                RETURNING *
+            )
+            SELECT inserted.*, input.ordinal
+            FROM inserted
+            JOIN input ON input.start_time = inserted.start_time
+            """)
+    Flux<InsertedSlot> insertAll(UUID calendarId, LocalDateTime[] startTimes, LocalDateTime[] endTimes);
+
+    @Modifying
+    @Query("""
+            INSERT INTO time_slots (calendar_id, series_id, start_time, end_time, status)
+            SELECT :calendarId, :seriesId, t.start_time, t.end_time, 'FREE'
+            FROM unnest(CAST(:startTimes AS timestamp[]), CAST(:endTimes AS timestamp[])) AS t(start_time, end_time)
+            WHERE NOT EXISTS (
+                SELECT 1 FROM time_slots ts
+                WHERE ts.calendar_id = :calendarId
+                  AND ts.start_time > t.start_time - INTERVAL '31 days'
+                  AND ts.start_time < t.end_time
+                  AND ts.time_range && tsrange(t.start_time, t.end_time, '[)')
+            )
+            """)
+    Mono<Integer> insertSeriesChunk(UUID calendarId,
+                                    UUID seriesId,
+                                    LocalDateTime[] startTimes,
+                                    LocalDateTime[] endTimes);
+
+    @Modifying
+    @Query("""
+            DELETE FROM time_slots
+            WHERE series_id = :seriesId
+              AND start_time >= :from
+              AND status = 'FREE'
+              AND meeting_id IS NULL
+            """)
+    Mono<Integer> deleteFreeSeriesSlotsFrom(UUID seriesId, LocalDateTime from);
+
+    @Query("""
+            UPDATE time_slots
+            SET status = 'BUSY'
+            WHERE id = :slotId
+              AND status = 'FREE'
+            RETURNING *
+            """)
+    Mono<TimeSlot> claimIfFree(UUID slotId);
+
+    @Query("""
+            UPDATE time_slots
+            SET start_time = COALESCE(:startTime, start_time),
+                end_time   = COALESCE(:endTime, end_time),
+                status     = COALESCE(:status, status)
+            WHERE id = :slotId
+              AND (meeting_id IS NULL OR :status IS NULL OR :status <> 'FREE')
+            RETURNING *
+            """)
+    Mono<TimeSlot> updateUnlessFreeingMeetingSlot(UUID slotId,
+                                                  LocalDateTime startTime,
+                                                  LocalDateTime endTime,
+                                                  String status);
+
+    @Modifying
+    @Query("""
+            DELETE FROM time_slots ts
+            USING (
+                SELECT id, start_time FROM time_slots
+                WHERE start_time < :cutoff
+                  AND end_time < :cutoff
+                  AND status = 'FREE'
+                  AND meeting_id IS NULL
+                LIMIT :batchSize
+                FOR UPDATE SKIP LOCKED
+            ) expired
+            WHERE ts.id = expired.id
+              AND ts.start_time = expired.start_time
+            """)
+    Mono<Integer> deleteExpiredFreeSlots(LocalDateTime cutoff, int batchSize);
+
+    @Query("""
+            WITH expired AS (
+                SELECT id, start_time FROM time_slots
+                WHERE start_time < :cutoff
+                  AND end_time < :cutoff
+                  AND status <> 'FREE'
+                  AND meeting_id IS NULL
+                LIMIT :batchSize
+                FOR UPDATE SKIP LOCKED
+            ), removed AS (
+                DELETE FROM time_slots ts
+                USING expired
+                WHERE ts.id = expired.id
+                  AND ts.start_time = expired.start_time
+                RETURNING ts.*
+            ), archived AS (
+                INSERT INTO time_slots_archive (id, calendar_id, start_time, end_time, status, meeting_id, series_id, created_at)
+                SELECT id, calendar_id, start_time, end_time, status, meeting_id, series_id, created_at FROM removed
+                RETURNING id
+            )
+            SELECT count(*) FROM archived
+            """)
+    Mono<Long> archiveExpiredUnbookedSlots(LocalDateTime cutoff, int batchSize);
+
+    @Query("SELECT ensure_time_slot_partitions(:monthsAhead)")
+    Mono<Integer> ensurePartitions(int monthsAhead);
+
+    @Query("SELECT COALESCE((SELECT version FROM calendar_versions WHERE calendar_id = :calendarId), 0)")
+    Mono<Long> findCalendarVersion(UUID calendarId);
+
+    @Query("""
+            SELECT md5(COALESCE(string_agg(c.id::text || ':' || COALESCE(v.version, 0), ',' ORDER BY c.id), ''))
+            FROM calendars c
+            LEFT JOIN calendar_versions v ON v.calendar_id = c.id
+            WHERE c.user_id = :userId
+            """)
+    Mono<String> findUserCalendarsVersion(UUID userId);
+
+    @Query("SELECT COALESCE((SELECT tombstone_floor FROM calendar_versions WHERE calendar_id = :calendarId), 0)")
+    Mono<Long> findTombstoneFloor(UUID calendarId);
+
+    @Query("""
+            SELECT ts.* FROM slot_changes c
+            JOIN time_slots ts ON ts.id = c.slot_id AND ts.calendar_id = c.calendar_id
+            WHERE c.calendar_id = :calendarId
+              AND c.version > :since
+              AND NOT c.deleted
+            ORDER BY ts.start_time, ts.id
+            """)
+    Flux<TimeSlot> findChangedSince(UUID calendarId, long since);
+
+    @Query("""
+            SELECT slot_id FROM slot_changes
+            WHERE calendar_id = :calendarId
+              AND version > :since
+              AND deleted
+            ORDER BY slot_id
+            """)
+    Flux<UUID> findDeletedSince(UUID calendarId, long since);
+
+    @Query("""
+            WITH expired AS (
+                SELECT slot_id FROM slot_changes
+                WHERE deleted
+                  AND changed_at < :cutoff
+                LIMIT :batchSize
+                FOR UPDATE SKIP LOCKED
+            ), purged AS (
+                DELETE FROM slot_changes c
+                USING expired
+                WHERE c.slot_id = expired.slot_id
+                RETURNING c.calendar_id, c.version
+            ), raised AS (
+                UPDATE calendar_versions v
+                SET tombstone_floor = GREATEST(v.tombstone_floor, p.version)
+                FROM (SELECT calendar_id, max(version) AS version FROM purged GROUP BY calendar_id) p
+                WHERE v.calendar_id = p.calendar_id
+            )
+            SELECT count(*) FROM purged
+            """)
+    Mono<Long> purgeExpiredTombstones(LocalDateTime cutoff, int batchSize);
 }
@@ -0,0 +1,17 @@
+package com.doodle.scheduler.repository;
+
+import com.doodle.scheduler.domain.TimeSlot;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface TimeSlotStreamRepository {
+
+    Flux<TimeSlot> streamByCalendarIdWithFilters(UUID calendarId,
+                                                 String status,
+                                                 LocalDateTime from,
+                                                 LocalDateTime to);
+
+    Flux<TimeSlot> streamByUserIdAndTimeRange(UUID userId, LocalDateTime from, LocalDateTime to);
+}
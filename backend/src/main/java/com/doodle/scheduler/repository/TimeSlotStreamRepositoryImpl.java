@@ -0,0 +1,60 @@
+package com.doodle.scheduler.repository;
+
+import com.doodle.scheduler.domain.TimeSlot;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+class TimeSlotStreamRepositoryImpl implements TimeSlotStreamRepository {
+
+    private static final String STREAM_BY_CALENDAR = """
+            SELECT * FROM time_slots
+            WHERE calendar_id = :calendarId
+              AND start_time >= COALESCE(:from, '-infinity')
+              AND start_time < COALESCE(:to, 'infinity')
+              AND (:status IS NULL OR status = :status)
+              AND (:to IS NULL OR end_time <= :to)
+            ORDER BY start_time, id
+            """;
+
+    private static final String STREAM_BY_USER = """
+            SELECT ts.* FROM time_slots ts
+            JOIN calendars c ON c.id = ts.calendar_id
+            WHERE c.user_id = :userId
+              AND ts.start_time >= :from
+              AND ts.start_time < :to
+              AND ts.end_time <= :to
+            ORDER BY ts.start_time, ts.id
+            """;
+
+    private final R2dbcEntityTemplate template;
+
+    @Override
+    public Flux<TimeSlot> streamByCalendarIdWithFilters(@NonNull final UUID calendarId,
+                                                        final String status,
+                                                        final LocalDateTime from,
+                                                        final LocalDateTime to) {
+        return new CursoredQuery(template, STREAM_BY_CALENDAR)
+                .bind("calendarId", calendarId, UUID.class)
+                .bind("status", status, String.class)
+                .bind("from", from, LocalDateTime.class)
+                .bind("to", to, LocalDateTime.class)
+                .fetch(TimeSlot.class);
+    }
+
+    @Override
+    public Flux<TimeSlot> streamByUserIdAndTimeRange(@NonNull final UUID userId,
+                                                     @NonNull final LocalDateTime from,
+                                                     @NonNull final LocalDateTime to) {
+        return new CursoredQuery(template, STREAM_BY_USER)
+                .bind("userId", userId, UUID.class)
+                .bind("from", from, LocalDateTime.class)
+                .bind("to", to, LocalDateTime.class)
+                .fetch(TimeSlot.class);
+    }
+}
@@ -16,6 +16,11 @@ public interface UserRepository extends ReactiveCrudRepository<User, UUID> {
 
     Mono<Boolean> existsByUsername(String username);
 
-    @Query("SELECT * FROM users WHERE username ILIKE '%' || :q || '%' OR email ILIKE '%' || :q || '%' LIMIT 10")
-    Flux<User> searchByUsernameOrEmail(String q);
+    @Query("""
+            SELECT * FROM users
+            WHERE username ILIKE :pattern OR email ILIKE :pattern
+            ORDER BY GREATEST(similarity(username, :q), similarity(email, :q)) DESC, username
+            LIMIT :limit
+            """)
+    Flux<User> searchByUsernameOrEmail(String q, String pattern, int limit);
 }
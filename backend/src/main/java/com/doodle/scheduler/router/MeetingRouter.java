@@ -39,7 +39,7 @@ public class MeetingRouter {
             @RouterOperation(path = USER_MEETINGS, method = RequestMethod.GET,
                     beanClass = MeetingHandler.class, beanMethod = "findByUser",
                     operation = @Operation(operationId = "getUserMeetings", tags = "Meetings",
-                            summary = "List all meetings organized by a user",
+                            summary = "List all meetings organized by a user; streamed when application/x-ndjson or text/event-stream is accepted",
                             responses = @ApiResponse(responseCode = "200", description = "Meetings list")))
     })
     public RouterFunction<ServerResponse> meetingRoutes(final MeetingHandler handler) {
@@ -0,0 +1,47 @@
+package com.doodle.scheduler.router;
+
+import com.doodle.scheduler.dto.CreateSlotSeriesRequest;
+import com.doodle.scheduler.dto.UpdateSlotSeriesRequest;
+import com.doodle.scheduler.handler.SlotSeriesHandler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import org.springdoc.core.annotations.RouterOperation;
+import org.springdoc.core.annotations.RouterOperations;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+@Configuration
+public class SlotSeriesRouter {
+
+    static final String CALENDAR_SERIES = "/api/v1/calendars/{calendarId}/series";
+    static final String SERIES_BY_ID = "/api/v1/series/{seriesId}";
+
+    @Bean
+    @RouterOperations({
+            @RouterOperation(path = CALENDAR_SERIES, method = RequestMethod.POST,
+                    beanClass = SlotSeriesHandler.class, beanMethod = "create",
+                    operation = @Operation(operationId = "createSlotSeries", tags = "Slot Series",
+                            summary = "Create a recurring slot series and generate its slots",
+                            requestBody = @RequestBody(content = @Content(schema = @Schema(implementation = CreateSlotSeriesRequest.class))),
+                            responses = @ApiResponse(responseCode = "201", description = "Series created"))),
+            @RouterOperation(path = SERIES_BY_ID, method = RequestMethod.PUT,
+                    beanClass = SlotSeriesHandler.class, beanMethod = "updateEndDate",
+                    operation = @Operation(operationId = "updateSlotSeries", tags = "Slot Series",
+                            summary = "Extend or truncate a slot series by moving its end date",
+                            requestBody = @RequestBody(content = @Content(schema = @Schema(implementation = UpdateSlotSeriesRequest.class))),
+                            responses = @ApiResponse(responseCode = "200", description = "Series updated")))
+    })
+    public RouterFunction<ServerResponse> slotSeriesRoutes(final SlotSeriesHandler handler) {
+        return RouterFunctions.route()
+                .POST(CALENDAR_SERIES, handler::create)
+                .PUT(SERIES_BY_ID, handler::updateEndDate)
+                .build();
+    }
+}
@@ -1,9 +1,11 @@
 package com.doodle.scheduler.router;
 
+import com.doodle.scheduler.dto.CommonAvailabilityRequest;
 import com.doodle.scheduler.dto.CreateSlotRequest;
 import com.doodle.scheduler.dto.UpdateSlotRequest;
 import com.doodle.scheduler.handler.TimeSlotHandler;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
@@ -21,8 +23,12 @@ import org.springframework.web.reactive.function.server.ServerResponse;
 public class TimeSlotRouter {
 
     static final String CALENDAR_SLOTS = "/api/v1/calendars/{calendarId}/slots";
+    static final String CALENDAR_SLOT_CHANGES = "/api/v1/calendars/{calendarId}/slots/changes";
+    static final String CALENDAR_SLOTS_DELTA = "/api/v1/calendars/{calendarId}/slots/delta";
+    static final String CALENDAR_SLOTS_BATCH = "/api/v1/calendars/{calendarId}/slots:batch";
     static final String SLOT_BY_ID = "/api/v1/slots/{slotId}";
     static final String USER_AVAILABILITY = "/api/v1/users/{userId}/availability";
+    static final String COMMON_AVAILABILITY = "/api/v1/availability/common";
 
     @Bean
     @RouterOperations({
@@ -32,6 +38,12 @@ public class TimeSlotRouter {
                             summary = "Create a time slot in a calendar",
                             requestBody = @RequestBody(content = @Content(schema = @Schema(implementation = CreateSlotRequest.class))),
                             responses = @ApiResponse(responseCode = "201", description = "Slot created"))),
+            @RouterOperation(path = CALENDAR_SLOTS_BATCH, method = RequestMethod.POST,
+                    beanClass = TimeSlotHandler.class, beanMethod = "createBatch",
+                    operation = @Operation(operationId = "createSlotBatch", tags = "Slots",
+                            summary = "Create many time slots in one transaction, reporting per-item conflicts",
+                            requestBody = @RequestBody(content = @Content(array = @ArraySchema(schema = @Schema(implementation = CreateSlotRequest.class)))),
+                            responses = @ApiResponse(responseCode = "200", description = "Per-item batch results"))),
             @RouterOperation(path = SLOT_BY_ID, method = RequestMethod.PUT,
                     beanClass = TimeSlotHandler.class, beanMethod = "update",
                     operation = @Operation(operationId = "updateSlot", tags = "Slots",
@@ -46,21 +58,44 @@ public class TimeSlotRouter {
             @RouterOperation(path = CALENDAR_SLOTS, method = RequestMethod.GET,
                     beanClass = TimeSlotHandler.class, beanMethod = "findByCalendar",
                     operation = @Operation(operationId = "listSlots", tags = "Slots",
-                            summary = "List slots with optional filters: status, from, to",
-                            responses = @ApiResponse(responseCode = "200", description = "Slots list"))),
+                            summary = "List slots with optional filters: status, from, to; paged by limit and cursor, or streamed as application/x-ndjson or text/event-stream",
+                            responses = @ApiResponse(responseCode = "200", description = "Slots page; X-Next-Cursor header carries the next cursor"))),
+            @RouterOperation(path = CALENDAR_SLOT_CHANGES, method = RequestMethod.GET,
+                    beanClass = TimeSlotHandler.class, beanMethod = "watchChanges",
+                    operation = @Operation(operationId = "watchSlotChanges", tags = "Slots",
+                            summary = "Server-sent events for slot inserts, updates and deletes in a calendar",
+                            responses = @ApiResponse(responseCode = "200", description = "Change event stream"))),
+            @RouterOperation(path = CALENDAR_SLOTS_DELTA, method = RequestMethod.GET,
+                    beanClass = TimeSlotHandler.class, beanMethod = "findDelta",
+                    operation = @Operation(operationId = "getSlotDelta", tags = "Slots",
+                            summary = "Slots created, updated or deleted since a sync token; without since, every slot in the calendar",
+                            responses = {
+                                    @ApiResponse(responseCode = "200", description = "Changed slots, deleted slot ids and the next token"),
+                                    @ApiResponse(responseCode = "410", description = "Token predates purged deletions; resync without since")
+                            })),
             @RouterOperation(path = USER_AVAILABILITY, method = RequestMethod.GET,
                     beanClass = TimeSlotHandler.class, beanMethod = "getAvailability",
                     operation = @Operation(operationId = "getAvailability", tags = "Slots",
-                            summary = "Get aggregated free/busy availability for a user",
-                            responses = @ApiResponse(responseCode = "200", description = "Availability list")))
+                            summary = "Get aggregated free/busy availability for a user; paged by limit and cursor, or merged into contiguous blocks with coalesce=true (includeSlotIds=true lists contributing slots)",
+                            responses = @ApiResponse(responseCode = "200", description = "Availability page; X-Next-Cursor header carries the next cursor"))),
+            @RouterOperation(path = COMMON_AVAILABILITY, method = RequestMethod.POST,
+                    beanClass = TimeSlotHandler.class, beanMethod = "findCommonAvailability",
+                    operation = @Operation(operationId = "findCommonAvailability", tags = "Slots",
+                            summary = "Find intervals of at least the given duration where every listed user is free",
+                            requestBody = @RequestBody(content = @Content(schema = @Schema(implementation = CommonAvailabilityRequest.class))),
+                            responses = @ApiResponse(responseCode = "200", description = "Common free intervals")))
     })
     public RouterFunction<ServerResponse> slotRoutes(final TimeSlotHandler handler) {
         return RouterFunctions.route()
                 .POST(CALENDAR_SLOTS, handler::create)
+                .POST(CALENDAR_SLOTS_BATCH, handler::createBatch)
                 .PUT(SLOT_BY_ID, handler::update)
                 .DELETE(SLOT_BY_ID, handler::delete)
                 .GET(CALENDAR_SLOTS, handler::findByCalendar)
+                .GET(CALENDAR_SLOT_CHANGES, handler::watchChanges)
+                .GET(CALENDAR_SLOTS_DELTA, handler::findDelta)
                 .GET(USER_AVAILABILITY, handler::getAvailability)
+                .POST(COMMON_AVAILABILITY, handler::findCommonAvailability)
                 .build();
     }
 }
@@ -0,0 +1,71 @@
+package com.doodle.scheduler.service;
+
+import com.doodle.scheduler.domain.SlotStatus;
+import com.doodle.scheduler.domain.TimeSlot;
+import com.doodle.scheduler.dto.AvailabilityBlock;
+import lombok.NonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+final class AvailabilityCoalescer {
+
+    private final boolean includeSlotIds;
+    private final Map<SlotStatus, OpenBlock> open = new EnumMap<>(SlotStatus.class);
+
+    AvailabilityCoalescer(final boolean includeSlotIds) {
+        this.includeSlotIds = includeSlotIds;
+    }
+
+    AvailabilityBlock accept(@NonNull final TimeSlot slot) {
+        final var current = open.get(slot.status());
+        if (current != null && !slot.startTime().isAfter(current.end)) {
+            current.extend(slot);
+            return null;
+        }
+        open.put(slot.status(), new OpenBlock(slot, includeSlotIds));
+        return current != null ? current.close(slot.status()) : null;
+    }
+
+    List<AvailabilityBlock> finish() {
+        final var remaining = new ArrayList<AvailabilityBlock>(open.size());
+        open.entrySet().stream()
+                .sorted(Map.Entry.comparingByValue((a, b) -> a.start.compareTo(b.start)))
+                .forEach(entry -> remaining.add(entry.getValue().close(entry.getKey())));
+        open.clear();
+        return remaining;
+    }
+
+    private static final class OpenBlock {
+
+        private final LocalDateTime start;
+        private final List<UUID> slotIds;
+        private LocalDateTime end;
+        private int slotCount;
+
+        OpenBlock(@NonNull final TimeSlot slot, final boolean includeSlotIds) {
+            this.start = slot.startTime();
+            this.end = slot.endTime();
+            this.slotCount = 1;
+            this.slotIds = includeSlotIds ? new ArrayList<>(List.of(slot.id())) : null;
+        }
+
+        void extend(@NonNull final TimeSlot slot) {
+            if (slot.endTime().isAfter(end)) {
+                end = slot.endTime();
+            }
+            slotCount++;
+            if (slotIds != null) {
+                slotIds.add(slot.id());
+            }
+        }
+
+        AvailabilityBlock close(@NonNull final SlotStatus status) {
+            return new AvailabilityBlock(start, end, status, slotCount, slotIds);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.doodle.scheduler.service;
+
+import com.doodle.scheduler.config.R2dbcConfig;
+import com.doodle.scheduler.dto.CalendarChangeEvent;
+import io.r2dbc.postgresql.PostgresqlConnectionFactoryProvider;
+import io.r2dbc.postgresql.api.Notification;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.postgresql.api.PostgresqlResult;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import jakarta.annotation.PreDestroy;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.UUID;
+
+@Slf4j
+@Service
+public class CalendarChangeListener {
+
+    static final String CHANNEL = "calendar_changes";
+    static final String INVALIDATION_CHANNEL = "lookup_invalidations";
+
+    private static final Duration MIN_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+
+    private final ConnectionFactory connectionFactory;
+    private final Sinks.Many<Change> sink = Sinks.many().multicast().directBestEffort();
+    private final Sinks.Many<Invalidation> invalidationSink = Sinks.many().multicast().directBestEffort();
+    private Disposable subscription;
+
+    public CalendarChangeListener(@NonNull final R2dbcProperties properties) {
+        final var options = ConnectionFactoryOptions.parse(properties.getUrl()).mutate()
+                .option(PostgresqlConnectionFactoryProvider.APPLICATION_NAME, R2dbcConfig.APPLICATION_NAME + "-listener");
+        if (properties.getUsername() != null) {
+            options.option(ConnectionFactoryOptions.USER, properties.getUsername());
+        }
+        if (properties.getPassword() != null) {
+            options.option(ConnectionFactoryOptions.PASSWORD, properties.getPassword());
+        }
+        this.connectionFactory = ConnectionFactories.get(options.build());
+    }
+
+    public Flux<Change> changes() {
+        return sink.asFlux();
+    }
+
+    public Flux<Invalidation> invalidations() {
+        return invalidationSink.asFlux();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        subscription = Flux.usingWhen(
+                        Mono.from(connectionFactory.create()).cast(PostgresqlConnection.class),
+                        this::listen,
+                        PostgresqlConnection::close)
+                .repeat()
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, MIN_BACKOFF).maxBackoff(MAX_BACKOFF)
+                        .doBeforeRetry(signal -> log.warn("Calendar change listener reconnecting: {}",
+                                signal.failure().getMessage())))
+                .subscribe(this::publish);
+        log.info("Listening for calendar changes on channels {}, {}", CHANNEL, INVALIDATION_CHANNEL);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+        sink.tryEmitComplete();
+        invalidationSink.tryEmitComplete();
+    }
+
+    static Change parse(@NonNull final String payload) {
+        final var parts = payload.split(":", 3);
+        if (parts.length < 3) {
+            throw new IllegalArgumentException("Malformed payload: " + payload);
+        }
+        return new Change(
+                UUID.fromString(parts[0]),
+                CalendarChangeEvent.Operation.valueOf(parts[1]),
+                R2dbcConfig.APPLICATION_NAME.equals(parts[2]));
+    }
+
+    static Invalidation parseInvalidation(@NonNull final String payload) {
+        final var separator = payload.indexOf(':');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Malformed payload: " + payload);
+        }
+        return new Invalidation(payload.substring(0, separator), UUID.fromString(payload.substring(separator + 1)));
+    }
+
+    private Flux<Notification> listen(@NonNull final PostgresqlConnection connection) {
+        return Flux.just(CHANNEL, INVALIDATION_CHANNEL)
+                .concatMap(channel -> connection.createStatement("LISTEN " + channel)
+                        .execute()
+                        .flatMap(PostgresqlResult::getRowsUpdated))
+                .thenMany(connection.getNotifications());
+    }
+
+    private void publish(@NonNull final Notification notification) {
+        final var payload = notification.getParameter();
+        if (payload == null) {
+            return;
+        }
+        try {
+            if (INVALIDATION_CHANNEL.equals(notification.getName())) {
+                invalidationSink.tryEmitNext(parseInvalidation(payload));
+            } else {
+                sink.tryEmitNext(parse(payload));
+            }
+        } catch (IllegalArgumentException ex) {
+            log.warn("Ignoring malformed payload on channel {}: {}", notification.getName(), payload);
+        }
+    }
+
+    public record Change(UUID calendarId, CalendarChangeEvent.Operation operation, boolean local) {
+    }
+
+    public record Invalidation(String table, UUID id) {
+    }
+}
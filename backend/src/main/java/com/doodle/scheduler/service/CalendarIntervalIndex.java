@@ -0,0 +1,269 @@
+package com.doodle.scheduler.service;
+
+import com.doodle.scheduler.domain.TimeSlot;
+import com.doodle.scheduler.repository.TimeSlotRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Sinks;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+
+@Slf4j
+@Service
+public class CalendarIntervalIndex {
+
+    private static final String METRIC_HITS = "interval_index_hits_total";
+    private static final String METRIC_MISSES = "interval_index_misses_total";
+    private static final String METRIC_SIZE = "interval_index_calendars";
+    private static final String METRIC_LOADS_SKIPPED = "interval_index_loads_skipped_total";
+    private static final Duration LOAD_TIMEOUT = Duration.ofSeconds(5);
+
+    private final TimeSlotRepository timeSlotRepository;
+    private final CalendarChangeListener changeListener;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final int maxCalendars;
+    private final int maxSlotsPerCalendar;
+    private final long ttlMillis;
+    private final Map<UUID, Entry> entries;
+    private final Semaphore loadPermits;
+    private final Sinks.Empty<Void> shutdown = Sinks.empty();
+    private Disposable subscription;
+
+    @Autowired
+    public CalendarIntervalIndex(@NonNull final TimeSlotRepository timeSlotRepository,
+                                 @NonNull final CalendarChangeListener changeListener,
+                                 @NonNull final MeterRegistry meterRegistry,
+                                 @Value("${scheduler.interval-index.max-calendars:10000}") final int maxCalendars,
+                                 @Value("${scheduler.interval-index.max-slots-per-calendar:20000}") final int maxSlotsPerCalendar,
+                                 @Value("${scheduler.interval-index.ttl:60s}") final Duration ttl,
+                                 @Value("${scheduler.interval-index.max-concurrent-loads:4}") final int maxConcurrentLoads) {
+        this(timeSlotRepository, changeListener, meterRegistry, Clock.systemUTC(), maxCalendars, maxSlotsPerCalendar, ttl,
+                maxConcurrentLoads);
+    }
+
+    CalendarIntervalIndex(@NonNull final TimeSlotRepository timeSlotRepository,
+                          @NonNull final CalendarChangeListener changeListener,
+                          @NonNull final MeterRegistry meterRegistry,
+                          @NonNull final Clock clock,
+                          final int maxCalendars,
+                          final int maxSlotsPerCalendar,
+                          @NonNull final Duration ttl,
+                          final int maxConcurrentLoads) {
+        this.timeSlotRepository = timeSlotRepository;
+        this.changeListener = changeListener;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.maxCalendars = maxCalendars;
+        this.maxSlotsPerCalendar = maxSlotsPerCalendar;
+        this.ttlMillis = ttl.toMillis();
+        this.loadPermits = new Semaphore(maxConcurrentLoads);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<UUID, Entry> eldest) {
+                return size() > CalendarIntervalIndex.this.maxCalendars;
+            }
+        };
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        meterRegistry.gauge(METRIC_SIZE, this, CalendarIntervalIndex::size);
+        subscription = changeListener.changes()
+                .filter(change -> !change.local())
+                .subscribe(change -> invalidate(change.calendarId()));
+    }
+
+    @PreDestroy
+    public void unsubscribe() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+        shutdown.tryEmitEmpty();
+    }
+
+    public boolean overlaps(@NonNull final UUID calendarId,
+                            @NonNull final LocalDateTime startTime,
+                            @NonNull final LocalDateTime endTime) {
+        final Entry entry;
+        synchronized (entries) {
+            entry = entries.get(calendarId);
+        }
+        if (entry instanceof Loaded loaded && clock.millis() - loaded.loadedAt() < ttlMillis) {
+            meterRegistry.counter(METRIC_HITS).increment();
+            return loaded.intervals().overlaps(toSeconds(startTime), toSeconds(endTime));
+        }
+        meterRegistry.counter(METRIC_MISSES).increment();
+        if (!(entry instanceof Loading) && !(entry instanceof Oversized oversized && fresh(oversized.markedAt()))) {
+            load(calendarId);
+        }
+        return false;
+    }
+
+    public void recordCreated(@NonNull final UUID calendarId, @NonNull final Collection<TimeSlot> slots) {
+        if (slots.isEmpty()) {
+            return;
+        }
+        synchronized (entries) {
+            final var entry = entries.get(calendarId);
+            if (entry instanceof Loaded loaded) {
+                final var updated = loaded.intervals().plus(slots);
+                if (updated.size() > maxSlotsPerCalendar) {
+                    entries.put(calendarId, new Oversized(clock.millis()));
+                } else {
+                    entries.put(calendarId, new Loaded(updated, loaded.loadedAt()));
+                }
+            } else if (entry instanceof Loading) {
+                entries.remove(calendarId);
+            }
+        }
+    }
+
+    public void invalidate(@NonNull final UUID calendarId) {
+        synchronized (entries) {
+            entries.remove(calendarId);
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void load(@NonNull final UUID calendarId) {
+        if (!loadPermits.tryAcquire()) {
+            meterRegistry.counter(METRIC_LOADS_SKIPPED).increment();
+            return;
+        }
+        final var token = new Loading();
+        synchronized (entries) {
+            if (entries.get(calendarId) instanceof Loading) {
+                loadPermits.release();
+                return;
+            }
+            entries.put(calendarId, token);
+        }
+        timeSlotRepository.findByCalendarIdWithFilters(calendarId, null, LocalDateTime.now(clock), null, null, null,
+                        maxSlotsPerCalendar + 1)
+                .collectList()
+                .timeout(LOAD_TIMEOUT)
+                .takeUntilOther(shutdown.asMono())
+                .doFinally(signal -> loadPermits.release())
+                .subscribe(slots -> install(calendarId, token, slots.size() > maxSlotsPerCalendar
+                                ? new Oversized(clock.millis())
+                                : new Loaded(Intervals.of(slots), clock.millis())),
+                        ex -> {
+                            log.warn("Failed to load interval index: calendarId={}, error={}", calendarId, ex.getMessage());
+                            install(calendarId, token, null);
+                        },
+                        () -> install(calendarId, token, null));
+    }
+
+    private void install(@NonNull final UUID calendarId, @NonNull final Loading token, final Entry entry) {
+        synchronized (entries) {
+            if (entries.get(calendarId) != token) {
+                return;
+            }
+            if (entry == null) {
+                entries.remove(calendarId);
+            } else {
+                entries.put(calendarId, entry);
+            }
+        }
+    }
+
+    private boolean fresh(final long since) {
+        return clock.millis() - since < ttlMillis;
+    }
+
+    private static long toSeconds(@NonNull final LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private sealed interface Entry permits Loading, Loaded, Oversized {
+    }
+
+    private static final class Loading implements Entry {
+    }
+
+    private record Loaded(Intervals intervals, long loadedAt) implements Entry {
+    }
+
+    private record Oversized(long markedAt) implements Entry {
+    }
+
+    private record Intervals(long[] starts, long[] ends) {
+
+        static Intervals of(@NonNull final Collection<TimeSlot> slots) {
+            return new Intervals(new long[0], new long[0]).plus(slots);
+        }
+
+        int size() {
+            return starts.length;
+        }
+
+        boolean overlaps(final long start, final long end) {
+            final var i = firstEndingAfter(start);
+            return i < ends.length && starts[i] < end;
+        }
+
+        Intervals plus(@NonNull final Collection<TimeSlot> slots) {
+            final var added = slots.stream()
+                    .map(slot -> new long[]{toSeconds(slot.startTime()), toSeconds(slot.endTime())})
+                    .sorted(Comparator.comparingLong(pair -> pair[1]))
+                    .toList();
+            final var n = starts.length + added.size();
+            final var newStarts = new long[n];
+            final var newEnds = new long[n];
+            var i = 0;
+            var j = 0;
+            for (int k = 0; k < n; k++) {
+                if (j >= added.size() || (i < ends.length && ends[i] <= added.get(j)[1])) {
+                    newStarts[k] = starts[i];
+                    newEnds[k] = ends[i++];
+                } else {
+                    newStarts[k] = added.get(j)[0];
+                    newEnds[k] = added.get(j++)[1];
+                }
+            }
+            return new Intervals(newStarts, newEnds);
+        }
+
+        private int firstEndingAfter(final long time) {
+            var low = 0;
+            var high = ends.length;
+            while (low < high) {
+                final var mid = (low + high) >>> 1;
+                if (ends[mid] <= time) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
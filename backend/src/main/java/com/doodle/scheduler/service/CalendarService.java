@@ -1,11 +1,11 @@
 package com.doodle.scheduler.service;
 
+import com.doodle.scheduler.config.ReplicaRouting;
 import com.doodle.scheduler.domain.Calendar;
 import com.doodle.scheduler.dto.CreateCalendarRequest;
 import com.doodle.scheduler.exception.CalendarNotFoundException;
 import com.doodle.scheduler.exception.UserNotFoundException;
 import com.doodle.scheduler.repository.CalendarRepository;
-import com.doodle.scheduler.repository.UserRepository;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,12 +25,13 @@ public class CalendarService {
     private static final String ERR_CALENDAR_NOT_FOUND = "Calendar not found: ";
 
     private final CalendarRepository calendarRepository;
-    private final UserRepository userRepository;
+    private final LookupCache lookupCache;
 
     @Transactional
     public Mono<Calendar> create(@NonNull final CreateCalendarRequest request) {
         log.info("Creating calendar: name='{}', userId={}", request.name(), request.userId());
-        return userRepository.existsById(request.userId())
+        return lookupCache.findUser(request.userId())
+                .hasElement()
                 .flatMap(exists -> {
                     if (!exists) {
                         log.warn("User not found: {}", request.userId());
@@ -42,17 +43,25 @@ public class CalendarService {
                             .build();
                     return calendarRepository.save(calendar);
                 })
-                .doOnSuccess(c -> log.info("Calendar created: id={}, name='{}'", c.id(), c.name()));
+                .onErrorMap(ex -> SqlErrors.isViolation(ex, SqlErrors.FOREIGN_KEY_VIOLATION), ex -> {
+                    log.warn("User removed while creating calendar: {}", request.userId());
+                    lookupCache.invalidateUser(request.userId());
+                    return new UserNotFoundException(ERR_USER_NOT_FOUND + request.userId());
+                })
+                .doOnSuccess(c -> {
+                    log.info("Calendar created: id={}, name='{}'", c.id(), c.name());
+                    lookupCache.putCalendar(c);
+                });
     }
 
     public Mono<Calendar> findById(@NonNull final UUID id) {
         log.debug("Finding calendar by id={}", id);
-        return calendarRepository.findById(id)
+        return lookupCache.findCalendar(id)
                 .switchIfEmpty(Mono.error(new CalendarNotFoundException(ERR_CALENDAR_NOT_FOUND + id)));
     }
 
     public Flux<Calendar> findByUserId(@NonNull final UUID userId) {
         log.debug("Finding calendars for userId={}", userId);
-        return calendarRepository.findAllByUserId(userId);
+        return ReplicaRouting.readOnly(calendarRepository.findAllByUserId(userId));
     }
 }
@@ -0,0 +1,96 @@
+package com.doodle.scheduler.service;
+
+import com.doodle.scheduler.dto.CommonAvailabilityResponse;
+import lombok.NonNull;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+final class CommonFreeTimeSweep {
+
+    private static final int INITIAL_EVENTS = 256;
+
+    private final int participants;
+    private final long windowStart;
+    private final long windowEnd;
+    private final Map<UUID, long[]> openByUser = new HashMap<>();
+    private long[] events = new long[INITIAL_EVENTS];
+    private int eventCount;
+
+    CommonFreeTimeSweep(final int participants,
+                        @NonNull final LocalDateTime from,
+                        @NonNull final LocalDateTime to) {
+        this.participants = participants;
+        this.windowStart = toSeconds(from);
+        this.windowEnd = toSeconds(to);
+    }
+
+    void accept(@NonNull final UUID userId,
+                @NonNull final LocalDateTime startTime,
+                @NonNull final LocalDateTime endTime) {
+        final var start = Math.max(toSeconds(startTime), windowStart);
+        final var end = Math.min(toSeconds(endTime), windowEnd);
+        if (end <= start) {
+            return;
+        }
+        final var open = openByUser.get(userId);
+        if (open == null) {
+            openByUser.put(userId, new long[]{start, end});
+        } else if (start <= open[1]) {
+            open[1] = Math.max(open[1], end);
+        } else {
+            addEvents(open[0], open[1]);
+            open[0] = start;
+            open[1] = end;
+        }
+    }
+
+    List<CommonAvailabilityResponse> finish(final long minDurationMinutes) {
+        if (openByUser.size() < participants) {
+            return List.of();
+        }
+        openByUser.values().forEach(open -> addEvents(open[0], open[1]));
+        openByUser.clear();
+        Arrays.sort(events, 0, eventCount);
+
+        final var minDuration = minDurationMinutes * 60;
+        final var result = new ArrayList<CommonAvailabilityResponse>();
+        var active = 0;
+        var commonStart = 0L;
+        for (int i = 0; i < eventCount; i++) {
+            final var time = events[i] >> 1;
+            if ((events[i] & 1) == 1) {
+                if (++active == participants) {
+                    commonStart = time;
+                }
+            } else {
+                if (active-- == participants && time - commonStart >= minDuration) {
+                    result.add(new CommonAvailabilityResponse(toDateTime(commonStart), toDateTime(time)));
+                }
+            }
+        }
+        return result;
+    }
+
+    private void addEvents(final long start, final long end) {
+        if (eventCount + 2 > events.length) {
+            events = Arrays.copyOf(events, events.length * 2);
+        }
+        events[eventCount++] = (start << 1) | 1;
+        events[eventCount++] = end << 1;
+    }
+
+    private static long toSeconds(@NonNull final LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static LocalDateTime toDateTime(final long seconds) {
+        return LocalDateTime.ofEpochSecond(seconds, 0, ZoneOffset.UTC);
+    }
+}
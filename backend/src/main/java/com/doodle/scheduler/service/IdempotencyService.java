@@ -0,0 +1,213 @@
+package com.doodle.scheduler.service;
+
+import com.doodle.scheduler.domain.IdempotencyRecord;
+import com.doodle.scheduler.dto.IdempotentResponse;
+import com.doodle.scheduler.exception.IdempotencyKeyReusedException;
+import com.doodle.scheduler.repository.IdempotencyKeyRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    private static final String ERR_INVALID_KEY = "Idempotency-Key must be between 1 and %d characters";
+    private static final String ERR_KEY_REUSED = "Idempotency-Key was already used for a different request: ";
+    private static final String ERR_EMPTY_RESULT = "Idempotent action completed without a response";
+    private static final String ERR_RECORD_MISSING = "Idempotency record disappeared: ";
+    private static final String METRIC_REQUESTS = "idempotency_requests_total";
+    private static final String TAG_OUTCOME = "outcome";
+    private static final String OUTCOME_EXECUTED = "executed";
+    private static final String OUTCOME_REPLAYED = "replayed";
+    private static final String OUTCOME_COALESCED = "coalesced";
+    private static final String OUTCOME_REUSED = "reused";
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final int PURGE_BATCH_SIZE = 1000;
+
+    private final IdempotencyKeyRepository repository;
+    private final TransactionalOperator transactionalOperator;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final Duration ttl;
+    private final Duration purgeInterval;
+    private final Cache<String, IdempotencyRecord> responses;
+    private final Map<String, Mono<Outcome>> inFlight = new ConcurrentHashMap<>();
+    private Disposable purging;
+
+    @Autowired
+    public IdempotencyService(@NonNull final IdempotencyKeyRepository repository,
+                              @NonNull final ReactiveTransactionManager transactionManager,
+                              @NonNull final MeterRegistry meterRegistry,
+                              @Value("${scheduler.idempotency.ttl:24h}") final Duration ttl,
+                              @Value("${scheduler.idempotency.cache-size:10000}") final long cacheSize,
+                              @Value("${scheduler.idempotency.purge-interval:15m}") final Duration purgeInterval) {
+        this(repository, TransactionalOperator.create(transactionManager), meterRegistry, Clock.systemUTC(),
+                ttl, cacheSize, purgeInterval);
+    }
+
+    IdempotencyService(@NonNull final IdempotencyKeyRepository repository,
+                       @NonNull final TransactionalOperator transactionalOperator,
+                       @NonNull final MeterRegistry meterRegistry,
+                       @NonNull final Clock clock,
+                       @NonNull final Duration ttl,
+                       final long cacheSize,
+                       @NonNull final Duration purgeInterval) {
+        this.repository = repository;
+        this.transactionalOperator = transactionalOperator;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.ttl = ttl;
+        this.purgeInterval = purgeInterval;
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        purging = Flux.interval(purgeInterval, purgeInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> purgeExpired()
+                        .onErrorResume(ex -> {
+                            log.warn("Idempotency key purge failed: {}", ex.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (purging != null) {
+            purging.dispose();
+        }
+    }
+
+    public Mono<IdempotentResponse> execute(@NonNull final String scope,
+                                            @NonNull final String key,
+                                            @NonNull final byte[] request,
+                                            @NonNull final Supplier<Mono<IdempotentResponse>> action) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            return Mono.error(new IllegalArgumentException(ERR_INVALID_KEY.formatted(MAX_KEY_LENGTH)));
+        }
+        final var id = digest(scope + '\n' + key);
+        final var requestHash = digest(request);
+        final var cacheKey = HexFormat.of().formatHex(id);
+        final var cached = responses.getIfPresent(cacheKey);
+        if (cached != null && !cached.expiresAt().isBefore(LocalDateTime.now(clock))) {
+            return Mono.fromCallable(() -> replay(cached, requestHash, key, OUTCOME_REPLAYED));
+        }
+        final var execution = executeOnce(id, requestHash, action)
+                .doOnNext(outcome -> responses.put(cacheKey, outcome.record()))
+                .doFinally(signal -> inFlight.remove(cacheKey))
+                .cache();
+        final var running = inFlight.putIfAbsent(cacheKey, execution);
+        if (running != null) {
+            return running.map(outcome -> replay(outcome.record(), requestHash, key, OUTCOME_COALESCED));
+        }
+        return execution.map(outcome -> outcome.executed()
+                ? executed(outcome.record())
+                : replay(outcome.record(), requestHash, key, OUTCOME_REPLAYED));
+    }
+
+    public Mono<Long> purgeExpired() {
+        return Mono.defer(() -> {
+            final var now = LocalDateTime.now(clock);
+            return repository.deleteExpired(now, PURGE_BATCH_SIZE)
+                    .expand(deleted -> deleted < PURGE_BATCH_SIZE ? Mono.empty() : repository.deleteExpired(now, PURGE_BATCH_SIZE))
+                    .reduce(0L, Long::sum)
+                    .doOnNext(deleted -> {
+                        if (deleted > 0) {
+                            log.info("Purged expired idempotency keys: count={}", deleted);
+                        }
+                    });
+        });
+    }
+
+    private Mono<Outcome> executeOnce(@NonNull final byte[] id,
+                                      @NonNull final byte[] requestHash,
+                                      @NonNull final Supplier<Mono<IdempotentResponse>> action) {
+        return Mono.defer(() -> {
+            final var now = LocalDateTime.now(clock);
+            final var expiresAt = now.plus(ttl);
+            return transactionalOperator.transactional(repository.reserve(id, requestHash, now, expiresAt)
+                    .flatMap(reserved -> {
+                        if (reserved == 0) {
+                            return repository.findActive(id, now)
+                                    .switchIfEmpty(Mono.error(new IllegalStateException(
+                                            ERR_RECORD_MISSING + HexFormat.of().formatHex(id))))
+                                    .map(existing -> new Outcome(existing, false));
+                        }
+                        return action.get()
+                                .switchIfEmpty(Mono.error(new IllegalStateException(ERR_EMPTY_RESULT)))
+                                .flatMap(response -> repository.complete(id, response.status(), response.body())
+                                        .thenReturn(new Outcome(IdempotencyRecord.builder()
+                                                .id(id)
+                                                .requestHash(requestHash)
+                                                .status(response.status())
+                                                .body(response.body())
+                                                .expiresAt(expiresAt)
+                                                .build(), true)));
+                    }));
+        });
+    }
+
+    private IdempotentResponse executed(@NonNull final IdempotencyRecord saved) {
+        meterRegistry.counter(METRIC_REQUESTS, TAG_OUTCOME, OUTCOME_EXECUTED).increment();
+        return new IdempotentResponse(saved.status(), saved.body(), false);
+    }
+
+    private IdempotentResponse replay(@NonNull final IdempotencyRecord saved,
+                                      @NonNull final byte[] requestHash,
+                                      @NonNull final String key,
+                                      @NonNull final String outcome) {
+        if (!Arrays.equals(saved.requestHash(), requestHash)) {
+            meterRegistry.counter(METRIC_REQUESTS, TAG_OUTCOME, OUTCOME_REUSED).increment();
+            throw new IdempotencyKeyReusedException(ERR_KEY_REUSED + key);
+        }
+        meterRegistry.counter(METRIC_REQUESTS, TAG_OUTCOME, outcome).increment();
+        return new IdempotentResponse(saved.status(), saved.body(), true);
+    }
+
+    private static byte[] digest(@NonNull final String value) {
+        return digest(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] digest(@NonNull final byte[] value) {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM).digest(value);
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private record Outcome(IdempotencyRecord record, boolean executed) {
+    }
+}
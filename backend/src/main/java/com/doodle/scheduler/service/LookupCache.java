@@ -0,0 +1,112 @@
+package com.doodle.scheduler.service;
+
+import com.doodle.scheduler.domain.Calendar;
+import com.doodle.scheduler.domain.User;
+import com.doodle.scheduler.repository.CalendarRepository;
+import com.doodle.scheduler.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+@Slf4j
+@Service
+public class LookupCache {
+
+    private static final String CACHE_USERS = "users";
+    private static final String CACHE_CALENDARS = "calendars";
+
+    private final UserRepository userRepository;
+    private final CalendarRepository calendarRepository;
+    private final CalendarChangeListener changeListener;
+    private final MeterRegistry meterRegistry;
+    private final AsyncCache<UUID, User> users;
+    private final AsyncCache<UUID, Calendar> calendars;
+    private Disposable subscription;
+
+    public LookupCache(@NonNull final UserRepository userRepository,
+                       @NonNull final CalendarRepository calendarRepository,
+                       @NonNull final CalendarChangeListener changeListener,
+                       @NonNull final MeterRegistry meterRegistry,
+                       @Value("${scheduler.lookup-cache.max-size:10000}") final long maxSize,
+                       @Value("${scheduler.lookup-cache.ttl:5m}") final Duration ttl) {
+        this.userRepository = userRepository;
+        this.calendarRepository = calendarRepository;
+        this.changeListener = changeListener;
+        this.meterRegistry = meterRegistry;
+        this.users = newCache(maxSize, ttl);
+        this.calendars = newCache(maxSize, ttl);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        CaffeineCacheMetrics.monitor(meterRegistry, users, CACHE_USERS);
+        CaffeineCacheMetrics.monitor(meterRegistry, calendars, CACHE_CALENDARS);
+        subscription = changeListener.invalidations()
+                .subscribe(invalidation -> {
+                    switch (invalidation.table()) {
+                        case CACHE_USERS -> invalidateUser(invalidation.id());
+                        case CACHE_CALENDARS -> invalidateCalendar(invalidation.id());
+                        default -> log.debug("Ignoring invalidation for table {}", invalidation.table());
+                    }
+                });
+    }
+
+    @PreDestroy
+    public void unsubscribe() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    public Mono<User> findUser(@NonNull final UUID id) {
+        return lookup(users, id, userRepository::findById);
+    }
+
+    public Mono<Calendar> findCalendar(@NonNull final UUID id) {
+        return lookup(calendars, id, calendarRepository::findById);
+    }
+
+    public void putUser(@NonNull final User user) {
+        users.put(user.id(), CompletableFuture.completedFuture(user));
+    }
+
+    public void putCalendar(@NonNull final Calendar calendar) {
+        calendars.put(calendar.id(), CompletableFuture.completedFuture(calendar));
+    }
+
+    public void invalidateUser(@NonNull final UUID id) {
+        users.synchronous().invalidate(id);
+    }
+
+    public void invalidateCalendar(@NonNull final UUID id) {
+        calendars.synchronous().invalidate(id);
+    }
+
+    private static <T> Mono<T> lookup(@NonNull final AsyncCache<UUID, T> cache,
+                                      @NonNull final UUID id,
+                                      @NonNull final Function<UUID, Mono<T>> loader) {
+        return Mono.fromFuture(() -> cache.get(id, (key, executor) -> loader.apply(key).toFuture()), true);
+    }
+
+    private static <T> AsyncCache<UUID, T> newCache(final long maxSize, @NonNull final Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+    }
+}
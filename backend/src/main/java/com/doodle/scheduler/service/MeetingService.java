@@ -1,13 +1,14 @@
 package com.doodle.scheduler.service;
 
+import com.doodle.scheduler.config.ReplicaRouting;
 import com.doodle.scheduler.domain.Meeting;
-import com.doodle.scheduler.domain.MeetingParticipant;
-import com.doodle.scheduler.domain.SlotStatus;
+import com.doodle.scheduler.domain.TimeSlot;
 import com.doodle.scheduler.dto.CreateMeetingRequest;
 import com.doodle.scheduler.dto.MeetingResponse;
 import com.doodle.scheduler.exception.MeetingNotFoundException;
 import com.doodle.scheduler.exception.SlotAlreadyBusyException;
 import com.doodle.scheduler.exception.SlotNotFoundException;
+import com.doodle.scheduler.exception.UserNotFoundException;
 import com.doodle.scheduler.repository.MeetingParticipantRepository;
 import com.doodle.scheduler.repository.MeetingRepository;
 import com.doodle.scheduler.repository.TimeSlotRepository;
@@ -21,7 +22,10 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 @Slf4j
@@ -32,7 +36,10 @@ public class MeetingService {
     private static final String ERR_SLOT_NOT_FOUND = "Slot not found: ";
     private static final String ERR_SLOT_ALREADY_BUSY = "Slot is already busy: ";
     private static final String ERR_MEETING_NOT_FOUND = "Meeting not found: ";
+    private static final String ERR_USER_NOT_FOUND = "User not found: ";
+    private static final String ERR_PARTICIPANTS_NOT_FOUND = "Participants not found: ";
     private static final String METRIC_MEETINGS_SCHEDULED = "meetings_scheduled_total";
+    private static final String METRIC_BOOKING_CONFLICTS = "slot_booking_conflicts_total";
 
     private final MeetingRepository meetingRepository;
     private final MeetingParticipantRepository participantRepository;
@@ -42,31 +49,14 @@ public class MeetingService {
     @Transactional
     public Mono<MeetingResponse> schedule(@NonNull final CreateMeetingRequest request) {
         log.info("Scheduling meeting: title='{}', slotId={}, organizerId={}", request.title(), request.slotId(), request.organizerId());
-        return timeSlotRepository.findById(request.slotId())
-                .switchIfEmpty(Mono.error(new SlotNotFoundException(ERR_SLOT_NOT_FOUND + request.slotId())))
-                .flatMap(slot -> {
-                    if (slot.status() == SlotStatus.BUSY) {
-                        log.warn("Slot already busy: slotId={}", request.slotId());
-                        return Mono.error(new SlotAlreadyBusyException(ERR_SLOT_ALREADY_BUSY + request.slotId()));
-                    }
-                    final var meeting = Meeting.builder()
-                            .title(request.title())
-                            .description(request.description())
-                            .organizerId(request.organizerId())
-                            .slotId(request.slotId())
-                            .build();
-                    return meetingRepository.save(meeting)
-                            .flatMap(saved -> {
-                                final var updatedSlot = slot
-                                        .withStatus(SlotStatus.BUSY)
-                                        .withMeetingId(saved.id());
-                                return timeSlotRepository.save(updatedSlot).thenReturn(saved);
-                            })
-                            .flatMap(saved -> saveParticipants(saved, request.participantIds())
-                                    .collectList()
-                                    .map(participants -> toResponse(saved, slot.startTime(), slot.endTime(),
-                                            participants.stream().map(MeetingParticipant::userId).toList())));
-                })
+        return timeSlotRepository.claimIfFree(request.slotId())
+                .switchIfEmpty(Mono.defer(() -> rejectUnclaimable(request.slotId())))
+                .flatMap(slot -> meetingRepository.insertLinkedToSlot(
+                                request.title(), request.description(), request.organizerId(), request.slotId())
+                        .onErrorMap(ex -> SqlErrors.isViolation(ex, SqlErrors.FOREIGN_KEY_VIOLATION),
+                                ex -> new UserNotFoundException(ERR_USER_NOT_FOUND + request.organizerId()))
+                        .flatMap(saved -> saveParticipants(saved, request.participantIds())
+                                .map(participantIds -> toResponse(saved, slot.startTime(), slot.endTime(), participantIds))))
                 .doOnSuccess(m -> {
                     log.info("Meeting scheduled: id={}, title='{}', participants={}", m.id(), m.title(), m.participantIds().size());
                     meterRegistry.counter(METRIC_MEETINGS_SCHEDULED).increment();
@@ -75,42 +65,51 @@ public class MeetingService {
 
     public Mono<MeetingResponse> findById(@NonNull final UUID meetingId) {
         log.debug("Finding meeting by id={}", meetingId);
-        return meetingRepository.findById(meetingId)
-                .switchIfEmpty(Mono.error(new MeetingNotFoundException(ERR_MEETING_NOT_FOUND + meetingId)))
-                .flatMap(meeting -> timeSlotRepository.findById(meeting.slotId())
-                        .flatMap(slot -> participantRepository.findAllByMeetingId(meetingId)
-                                .map(MeetingParticipant::userId)
-                                .collectList()
-                                .map(ids -> toResponse(meeting, slot.startTime(), slot.endTime(), ids))));
+        return ReplicaRouting.readOnly(meetingRepository.findResponseById(meetingId))
+                .switchIfEmpty(Mono.error(new MeetingNotFoundException(ERR_MEETING_NOT_FOUND + meetingId)));
     }
 
     public Flux<MeetingResponse> findByUser(@NonNull final UUID userId) {
         log.debug("Finding meetings for userId={}", userId);
-        return meetingRepository.findAllByOrganizerId(userId)
-                .flatMap(meeting -> timeSlotRepository.findById(meeting.slotId())
-                        .flatMap(slot -> participantRepository.findAllByMeetingId(meeting.id())
-                                .map(MeetingParticipant::userId)
-                                .collectList()
-                                .map(ids -> toResponse(meeting, slot.startTime(), slot.endTime(), ids))));
+        return ReplicaRouting.readOnly(meetingRepository.streamResponsesByOrganizerId(userId));
     }
 
-    private Flux<MeetingParticipant> saveParticipants(@NonNull final Meeting meeting,
-                                                      final List<UUID> participantIds) {
+    private Mono<TimeSlot> rejectUnclaimable(@NonNull final UUID slotId) {
+        return timeSlotRepository.existsById(slotId)
+                .flatMap(exists -> {
+                    if (!exists) {
+                        return Mono.error(new SlotNotFoundException(ERR_SLOT_NOT_FOUND + slotId));
+                    }
+                    log.warn("Slot already busy: slotId={}", slotId);
+                    meterRegistry.counter(METRIC_BOOKING_CONFLICTS).increment();
+                    return Mono.error(new SlotAlreadyBusyException(ERR_SLOT_ALREADY_BUSY + slotId));
+                });
+    }
+
+    private Mono<List<UUID>> saveParticipants(@NonNull final Meeting meeting,
+                                              final List<UUID> participantIds) {
         if (participantIds == null || participantIds.isEmpty()) {
-            return Flux.empty();
+            return Mono.just(List.of());
         }
-        return Flux.fromIterable(participantIds)
-                .map(userId -> MeetingParticipant.builder()
-                        .meetingId(meeting.id())
-                        .userId(userId)
-                        .build())
-                .flatMap(participantRepository::save);
+        final var requested = new LinkedHashSet<UUID>(participantIds.size());
+        participantIds.stream().filter(Objects::nonNull).forEach(requested::add);
+        return participantRepository.insertForExistingUsers(meeting.id(), requested.toArray(UUID[]::new))
+                .collectList()
+                .flatMap(inserted -> {
+                    if (inserted.size() == requested.size()) {
+                        return Mono.just(inserted);
+                    }
+                    final var unknown = new ArrayList<>(requested);
+                    unknown.removeAll(inserted);
+                    log.warn("Unknown participants for meeting: meetingId={}, unknown={}", meeting.id(), unknown);
+                    return Mono.error(new UserNotFoundException(ERR_PARTICIPANTS_NOT_FOUND + unknown));
+                });
     }
 
-    private MeetingResponse toResponse(@NonNull final Meeting meeting,
-                                       @NonNull final LocalDateTime startTime,
-                                       @NonNull final LocalDateTime endTime,
-                                       @NonNull final List<UUID> participantIds) {
+    static MeetingResponse toResponse(@NonNull final Meeting meeting,
+                                      @NonNull final LocalDateTime startTime,
+                                      @NonNull final LocalDateTime endTime,
+                                      @NonNull final List<UUID> participantIds) {
         return new MeetingResponse(
                 meeting.id(),
                 meeting.title(),
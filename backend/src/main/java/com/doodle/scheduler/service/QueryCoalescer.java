@@ -0,0 +1,66 @@
+package com.doodle.scheduler.service;
+
+import com.doodle.scheduler.config.ReplicaRouting;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+@Component
+public class QueryCoalescer {
+
+    static final String METRIC_QUERIES = "coalesced_queries_total";
+    static final String METRIC_IN_FLIGHT = "coalesced_queries_in_flight";
+    static final String OUTCOME_EXECUTED = "executed";
+    static final String OUTCOME_COALESCED = "coalesced";
+    private static final String TAG_QUERY = "query";
+    private static final String TAG_OUTCOME = "outcome";
+
+    private final Map<Object, Mono<?>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final Duration ttl;
+
+    public QueryCoalescer(@NonNull final MeterRegistry meterRegistry,
+                          @Value("${scheduler.query-coalescing.ttl:0s}") @NonNull final Duration ttl) {
+        this.meterRegistry = meterRegistry;
+        this.ttl = ttl;
+        Gauge.builder(METRIC_IN_FLIGHT, inFlight, Map::size).register(meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> execute(@NonNull final String query,
+                               @NonNull final Object key,
+                               @NonNull final Supplier<Mono<T>> loader) {
+        return Mono.deferContextual(context -> {
+            if (ReplicaRouting.isPinnedToPrimary(context)) {
+                return loader.get();
+            }
+            final var flight = loader.get()
+                    .doFinally(signal -> release(key, signal))
+                    .cache();
+            final var running = inFlight.putIfAbsent(key, flight);
+            if (running != null) {
+                meterRegistry.counter(METRIC_QUERIES, TAG_QUERY, query, TAG_OUTCOME, OUTCOME_COALESCED).increment();
+                return (Mono<T>) running;
+            }
+            meterRegistry.counter(METRIC_QUERIES, TAG_QUERY, query, TAG_OUTCOME, OUTCOME_EXECUTED).increment();
+            return flight;
+        });
+    }
+
+    private void release(@NonNull final Object key, @NonNull final SignalType signal) {
+        if (signal != SignalType.ON_COMPLETE || ttl.isZero()) {
+            inFlight.remove(key);
+            return;
+        }
+        Mono.delay(ttl).subscribe(tick -> inFlight.remove(key));
+    }
+}
@@ -0,0 +1,181 @@
+package com.doodle.scheduler.service;
+
+import com.doodle.scheduler.repository.MeetingRepository;
+import com.doodle.scheduler.repository.TimeSlotRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Wrapped;
+import jakarta.annotation.PreDestroy;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+@Slf4j
+@Service
+public class RetentionJob {
+
+    private static final String METRIC_MEETINGS_ARCHIVED = "retention_meetings_archived_total";
+    private static final String METRIC_SLOTS_ARCHIVED = "retention_slots_archived_total";
+    private static final String METRIC_SLOTS_DELETED = "retention_slots_deleted_total";
+    private static final String METRIC_TOMBSTONES_PURGED = "retention_tombstones_purged_total";
+    private static final String METRIC_BATCHES_DEFERRED = "retention_batches_deferred_total";
+    private static final String METRIC_RUN_DURATION = "retention_run_duration";
+
+    private final MeetingRepository meetingRepository;
+    private final TimeSlotRepository timeSlotRepository;
+    private final CalendarIntervalIndex intervalIndex;
+    private final ConnectionFactory connectionFactory;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final boolean enabled;
+    private final Duration horizon;
+    private final Duration interval;
+    private final int batchSize;
+    private final Duration batchPause;
+    private final double maxPoolUsage;
+    private Disposable schedule;
+
+    @Autowired
+    public RetentionJob(@NonNull final MeetingRepository meetingRepository,
+                        @NonNull final TimeSlotRepository timeSlotRepository,
+                        @NonNull final CalendarIntervalIndex intervalIndex,
+                        @NonNull final ConnectionFactory connectionFactory,
+                        @NonNull final MeterRegistry meterRegistry,
+                        @Value("${scheduler.retention.enabled:false}") final boolean enabled,
+                        @Value("${scheduler.retention.horizon:90d}") final Duration horizon,
+                        @Value("${scheduler.retention.interval:1h}") final Duration interval,
+                        @Value("${scheduler.retention.batch-size:500}") final int batchSize,
+                        @Value("${scheduler.retention.batch-pause:200ms}") final Duration batchPause,
+                        @Value("${scheduler.retention.max-pool-usage:0.5}") final double maxPoolUsage) {
+        this(meetingRepository, timeSlotRepository, intervalIndex, connectionFactory, meterRegistry, Clock.systemUTC(),
+                enabled, horizon, interval, batchSize, batchPause, maxPoolUsage);
+    }
+
+    RetentionJob(@NonNull final MeetingRepository meetingRepository,
+                 @NonNull final TimeSlotRepository timeSlotRepository,
+                 @NonNull final CalendarIntervalIndex intervalIndex,
+                 @NonNull final ConnectionFactory connectionFactory,
+                 @NonNull final MeterRegistry meterRegistry,
+                 @NonNull final Clock clock,
+                 final boolean enabled,
+                 @NonNull final Duration horizon,
+                 @NonNull final Duration interval,
+                 final int batchSize,
+                 @NonNull final Duration batchPause,
+                 final double maxPoolUsage) {
+        this.meetingRepository = meetingRepository;
+        this.timeSlotRepository = timeSlotRepository;
+        this.intervalIndex = intervalIndex;
+        this.connectionFactory = connectionFactory;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.horizon = horizon;
+        this.interval = interval;
+        this.batchSize = batchSize;
+        this.batchPause = batchPause;
+        this.maxPoolUsage = maxPoolUsage;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        schedule = Flux.interval(interval, interval)
+                .onBackpressureDrop()
+                .concatMap(tick -> run()
+                        .onErrorResume(ex -> {
+                            log.warn("Retention run failed: {}", ex.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (schedule != null) {
+            schedule.dispose();
+        }
+    }
+
+    public Mono<Void> run() {
+        return Mono.defer(() -> {
+            final var cutoff = LocalDateTime.now(clock).minus(horizon);
+            final var started = System.nanoTime();
+            log.info("Retention run started: cutoff={}, batchSize={}", cutoff, batchSize);
+            return drain(() -> meetingRepository.archiveExpiredMeetings(cutoff, batchSize)
+                    .doOnNext(this::invalidateIndex), METRIC_MEETINGS_ARCHIVED)
+                    .flatMap(meetingsArchived -> drain(() -> timeSlotRepository.archiveExpiredUnbookedSlots(cutoff, batchSize)
+                            .doOnNext(this::invalidateIndex), METRIC_SLOTS_ARCHIVED)
+                            .flatMap(slotsArchived -> drain(() -> timeSlotRepository.deleteExpiredFreeSlots(cutoff, batchSize)
+                                    .map(Integer::longValue)
+                                    .doOnNext(this::invalidateIndex), METRIC_SLOTS_DELETED)
+                                    .flatMap(slotsDeleted -> drain(() -> timeSlotRepository.purgeExpiredTombstones(cutoff, batchSize),
+                                            METRIC_TOMBSTONES_PURGED)
+                                            .doOnNext(tombstonesPurged -> {
+                                                meterRegistry.timer(METRIC_RUN_DURATION).record(Duration.ofNanos(System.nanoTime() - started));
+                                                log.info("Retention run finished: meetingsArchived={}, slotsArchived={}, slotsDeleted={}, tombstonesPurged={}",
+                                                        meetingsArchived, slotsArchived, slotsDeleted, tombstonesPurged);
+                                            }))))
+                    .then();
+        });
+    }
+
+    private void invalidateIndex(final long processed) {
+        if (processed > 0) {
+            intervalIndex.invalidateAll();
+        }
+    }
+
+    private Mono<Long> drain(@NonNull final Supplier<Mono<Long>> batch, @NonNull final String metric) {
+        final var counter = meterRegistry.counter(metric);
+        return whenPoolIdle(batch)
+                .expand(processed -> processed < batchSize
+                        ? Mono.empty()
+                        : whenPoolIdle(batch).delaySubscription(batchPause))
+                .doOnNext(counter::increment)
+                .reduce(0L, Long::sum);
+    }
+
+    private Mono<Long> whenPoolIdle(@NonNull final Supplier<Mono<Long>> batch) {
+        return Mono.fromSupplier(this::poolBusy)
+                .filter(busy -> !busy)
+                .repeatWhenEmpty(attempts -> attempts
+                        .doOnNext(attempt -> meterRegistry.counter(METRIC_BATCHES_DEFERRED).increment())
+                        .delayElements(batchPause))
+                .flatMap(idle -> batch.get());
+    }
+
+    private boolean poolBusy() {
+        return pool(connectionFactory)
+                .flatMap(ConnectionPool::getMetrics)
+                .map(metrics -> metrics.pendingAcquireSize() > 0
+                        || metrics.acquiredSize() >= metrics.getMaxAllocatedSize() * maxPoolUsage)
+                .orElse(false);
+    }
+
+    private static Optional<ConnectionPool> pool(final Object candidate) {
+        if (candidate instanceof ConnectionPool pool) {
+            return Optional.of(pool);
+        }
+        if (candidate instanceof Wrapped<?> wrapped) {
+            return pool(wrapped.unwrap());
+        }
+        return Optional.empty();
+    }
+}
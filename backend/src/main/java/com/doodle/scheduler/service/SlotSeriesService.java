@@ -0,0 +1,246 @@
+package com.doodle.scheduler.service;
+
+import com.doodle.scheduler.domain.SlotSeries;
+import com.doodle.scheduler.domain.SlotStatus;
+import com.doodle.scheduler.domain.TimeSlot;
+import com.doodle.scheduler.dto.CreateSlotSeriesRequest;
+import com.doodle.scheduler.dto.SlotSeriesResponse;
+import com.doodle.scheduler.dto.UpdateSlotSeriesRequest;
+import com.doodle.scheduler.exception.CalendarNotFoundException;
+import com.doodle.scheduler.exception.SlotOverlapException;
+import com.doodle.scheduler.exception.SlotSeriesNotFoundException;
+import com.doodle.scheduler.repository.SlotSeriesRepository;
+import com.doodle.scheduler.repository.TimeSlotRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SlotSeriesService {
+
+    private static final String ERR_CALENDAR_NOT_FOUND = "Calendar not found: ";
+    private static final String ERR_SERIES_NOT_FOUND = "Slot series not found: ";
+    private static final String ERR_MISSING_FIELDS = "dayStart, dayEnd, slotMinutes, startDate and endDate are required";
+    private static final String ERR_END_DATE_REQUIRED = "endDate is required";
+    private static final String ERR_NO_DAYS = "daysOfWeek must not be empty";
+    private static final String ERR_DAY_END_BEFORE_START = "dayEnd must be after dayStart";
+    private static final String ERR_END_DATE_BEFORE_START = "endDate must not be before startDate";
+    private static final String ERR_SLOT_TOO_SHORT = "slotMinutes must be at least ";
+    private static final String ERR_SLOT_LONGER_THAN_DAY = "slotMinutes must fit between dayStart and dayEnd";
+    private static final String ERR_HORIZON_TOO_LONG = "A series may span at most %d days";
+    private static final String ERR_SLOT_OVERLAPS = "Series slot overlaps with a slot written concurrently in this calendar";
+    private static final String METRIC_SLOTS_CREATED = "slots_created_total";
+    private static final int MIN_SLOT_MINUTES = 5;
+    private static final int MAX_SERIES_DAYS = 366;
+    private static final int CHUNK_SIZE = 500;
+
+    private final SlotSeriesRepository seriesRepository;
+    private final TimeSlotRepository timeSlotRepository;
+    private final MeterRegistry meterRegistry;
+    private final CalendarIntervalIndex intervalIndex;
+
+    public Mono<SlotSeriesResponse> create(@NonNull final UUID calendarId,
+                                           @NonNull final CreateSlotSeriesRequest request) {
+        log.info("Creating slot series: calendarId={}, days={}, {}-{} every {}m, {}..{}", calendarId,
+                request.daysOfWeek(), request.dayStart(), request.dayEnd(), request.slotMinutes(),
+                request.startDate(), request.endDate());
+        final var error = validate(request);
+        if (error != null) {
+            return Mono.error(new IllegalArgumentException(error));
+        }
+        final var series = SlotSeries.builder()
+                .calendarId(calendarId)
+                .daysOfWeekMask(toMask(request.daysOfWeek()))
+                .dayStart(request.dayStart())
+                .dayEnd(request.dayEnd())
+                .slotMinutes(request.slotMinutes())
+                .startDate(request.startDate())
+                .endDate(request.endDate())
+                .build();
+        return seriesRepository.save(series)
+                .onErrorMap(ex -> SqlErrors.isViolation(ex, SqlErrors.FOREIGN_KEY_VIOLATION), ex -> {
+                    log.warn("Calendar not found: {}", calendarId);
+                    return new CalendarNotFoundException(ERR_CALENDAR_NOT_FOUND + calendarId);
+                })
+                .flatMap(saved -> generate(saved, saved.startDate(), saved.endDate())
+                        .onErrorResume(SlotSeriesService::isOverlap, ex -> undo(saved, discard(saved)))
+                        .map(created -> toResponse(saved, created, 0)))
+                .doOnSuccess(r -> log.info("Slot series created: id={}, slots={}", r.id(), r.slotsCreated()));
+    }
+
+    public Mono<SlotSeriesResponse> updateEndDate(@NonNull final UUID seriesId,
+                                                  @NonNull final UpdateSlotSeriesRequest request) {
+        log.info("Updating slot series end date: id={}, endDate={}", seriesId, request.endDate());
+        if (request.endDate() == null) {
+            return Mono.error(new IllegalArgumentException(ERR_END_DATE_REQUIRED));
+        }
+        return seriesRepository.findById(seriesId)
+                .switchIfEmpty(Mono.error(new SlotSeriesNotFoundException(ERR_SERIES_NOT_FOUND + seriesId)))
+                .flatMap(series -> {
+                    final var newEnd = request.endDate();
+                    if (newEnd.isBefore(series.startDate())) {
+                        return Mono.error(new IllegalArgumentException(ERR_END_DATE_BEFORE_START));
+                    }
+                    if (ChronoUnit.DAYS.between(series.startDate(), newEnd) >= MAX_SERIES_DAYS) {
+                        return Mono.error(new IllegalArgumentException(ERR_HORIZON_TOO_LONG.formatted(MAX_SERIES_DAYS)));
+                    }
+                    final var updated = series.withEndDate(newEnd);
+                    if (newEnd.isAfter(series.endDate())) {
+                        final var extendedFrom = series.endDate().plusDays(1);
+                        return seriesRepository.save(updated)
+                                .flatMap(saved -> generate(saved, extendedFrom, newEnd)
+                                        .onErrorResume(SlotSeriesService::isOverlap,
+                                                ex -> undo(saved, revert(series, extendedFrom)))
+                                        .map(created -> toResponse(saved, created, 0)));
+                    }
+                    return timeSlotRepository.deleteFreeSeriesSlotsFrom(seriesId, newEnd.plusDays(1).atStartOfDay())
+                            .doOnSuccess(removed -> intervalIndex.invalidate(series.calendarId()))
+                            .flatMap(removed -> seriesRepository.save(updated)
+                                    .map(saved -> toResponse(saved, 0, removed)));
+                })
+                .doOnSuccess(r -> log.info("Slot series updated: id={}, endDate={}, created={}, removed={}",
+                        r.id(), r.endDate(), r.slotsCreated(), r.slotsRemoved()));
+    }
+
+    static Flux<TimeSlot> expand(@NonNull final SlotSeries series,
+                                 @NonNull final LocalDate from,
+                                 @NonNull final LocalDate to) {
+        final var days = fromMask(series.daysOfWeekMask());
+        return Flux.fromStream(() -> from.datesUntil(to.plusDays(1)))
+                .filter(date -> days.contains(date.getDayOfWeek()))
+                .concatMapIterable(date -> slotsOn(series, date));
+    }
+
+    static int toMask(@NonNull final Set<DayOfWeek> days) {
+        var mask = 0;
+        for (final var day : days) {
+            mask |= 1 << (day.getValue() - 1);
+        }
+        return mask;
+    }
+
+    static Set<DayOfWeek> fromMask(final int mask) {
+        final var days = EnumSet.noneOf(DayOfWeek.class);
+        for (final var day : DayOfWeek.values()) {
+            if ((mask & (1 << (day.getValue() - 1))) != 0) {
+                days.add(day);
+            }
+        }
+        return days;
+    }
+
+    private Mono<Long> generate(@NonNull final SlotSeries series,
+                                @NonNull final LocalDate from,
+                                @NonNull final LocalDate to) {
+        return expand(series, from, to)
+                .buffer(CHUNK_SIZE)
+                .concatMap(chunk -> timeSlotRepository.insertSeriesChunk(
+                        series.calendarId(),
+                        series.id(),
+                        chunk.stream().map(TimeSlot::startTime).toArray(LocalDateTime[]::new),
+                        chunk.stream().map(TimeSlot::endTime).toArray(LocalDateTime[]::new)), 1)
+                .reduce(0L, (total, inserted) -> total + inserted)
+                .doOnSuccess(total -> intervalIndex.invalidate(series.calendarId()))
+                .doOnNext(total -> meterRegistry.counter(METRIC_SLOTS_CREATED).increment(total));
+    }
+
+    private Mono<Void> discard(@NonNull final SlotSeries series) {
+        return timeSlotRepository.deleteFreeSeriesSlotsFrom(series.id(), series.startDate().atStartOfDay())
+                .then(seriesRepository.deleteById(series.id()));
+    }
+
+    private Mono<Void> revert(@NonNull final SlotSeries previous, @NonNull final LocalDate extendedFrom) {
+        return timeSlotRepository.deleteFreeSeriesSlotsFrom(previous.id(), extendedFrom.atStartOfDay())
+                .then(seriesRepository.save(previous))
+                .then();
+    }
+
+    private Mono<Long> undo(@NonNull final SlotSeries series, @NonNull final Mono<?> compensation) {
+        log.warn("Concurrent slot overlap during series generation, removing written slots: seriesId={}", series.id());
+        return compensation
+                .doFinally(signal -> intervalIndex.invalidate(series.calendarId()))
+                .then(Mono.error(new SlotOverlapException(ERR_SLOT_OVERLAPS)));
+    }
+
+    private static boolean isOverlap(@NonNull final Throwable ex) {
+        return SqlErrors.isViolation(ex, SqlErrors.EXCLUSION_VIOLATION);
+    }
+
+    private static List<TimeSlot> slotsOn(@NonNull final SlotSeries series, @NonNull final LocalDate date) {
+        final var slots = new ArrayList<TimeSlot>();
+        final var dayEnd = date.atTime(series.dayEnd());
+        var start = date.atTime(series.dayStart());
+        var end = start.plusMinutes(series.slotMinutes());
+        while (!end.isAfter(dayEnd)) {
+            slots.add(TimeSlot.builder()
+                    .calendarId(series.calendarId())
+                    .seriesId(series.id())
+                    .startTime(start)
+                    .endTime(end)
+                    .status(SlotStatus.FREE)
+                    .build());
+            start = end;
+            end = start.plusMinutes(series.slotMinutes());
+        }
+        return slots;
+    }
+
+    private static String validate(@NonNull final CreateSlotSeriesRequest request) {
+        if (request.dayStart() == null || request.dayEnd() == null || request.slotMinutes() == null
+                || request.startDate() == null || request.endDate() == null) {
+            return ERR_MISSING_FIELDS;
+        }
+        if (request.daysOfWeek() == null || request.daysOfWeek().isEmpty()) {
+            return ERR_NO_DAYS;
+        }
+        if (!request.dayEnd().isAfter(request.dayStart())) {
+            return ERR_DAY_END_BEFORE_START;
+        }
+        if (request.slotMinutes() < MIN_SLOT_MINUTES) {
+            return ERR_SLOT_TOO_SHORT + MIN_SLOT_MINUTES;
+        }
+        if (ChronoUnit.MINUTES.between(request.dayStart(), request.dayEnd()) < request.slotMinutes()) {
+            return ERR_SLOT_LONGER_THAN_DAY;
+        }
+        if (request.endDate().isBefore(request.startDate())) {
+            return ERR_END_DATE_BEFORE_START;
+        }
+        if (ChronoUnit.DAYS.between(request.startDate(), request.endDate()) >= MAX_SERIES_DAYS) {
+            return ERR_HORIZON_TOO_LONG.formatted(MAX_SERIES_DAYS);
+        }
+        return null;
+    }
+
+    private static SlotSeriesResponse toResponse(@NonNull final SlotSeries series,
+                                                 final long slotsCreated,
+                                                 final long slotsRemoved) {
+        return new SlotSeriesResponse(
+                series.id(),
+                series.calendarId(),
+                fromMask(series.daysOfWeekMask()),
+                series.dayStart(),
+                series.dayEnd(),
+                series.slotMinutes(),
+                series.startDate(),
+                series.endDate(),
+                slotsCreated,
+                slotsRemoved
+        );
+    }
+}
@@ -0,0 +1,20 @@
+package com.doodle.scheduler.service;
+
+import io.r2dbc.spi.R2dbcException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+final class SqlErrors {
+
+    static final String FOREIGN_KEY_VIOLATION = "23503";
+    static final String CHECK_VIOLATION = "23514";
+    static final String EXCLUSION_VIOLATION = "23P01";
+
+    private SqlErrors() {
+    }
+
+    static boolean isViolation(final Throwable ex, final String sqlState) {
+        return ex instanceof DataIntegrityViolationException
+                && ex.getCause() instanceof R2dbcException cause
+                && sqlState.equals(cause.getSqlState());
+    }
+}
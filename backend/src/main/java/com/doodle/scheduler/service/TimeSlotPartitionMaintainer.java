@@ -0,0 +1,68 @@
+package com.doodle.scheduler.service;
+
+import com.doodle.scheduler.repository.TimeSlotRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+@Slf4j
+@Service
+public class TimeSlotPartitionMaintainer {
+
+    private static final String METRIC_PARTITIONS_CREATED = "time_slot_partitions_created_total";
+
+    private final TimeSlotRepository timeSlotRepository;
+    private final MeterRegistry meterRegistry;
+    private final int monthsAhead;
+    private final Duration checkInterval;
+    private Disposable maintenance;
+
+    public TimeSlotPartitionMaintainer(@NonNull final TimeSlotRepository timeSlotRepository,
+                                       @NonNull final MeterRegistry meterRegistry,
+                                       @Value("${scheduler.slot-partitions.months-ahead:3}") final int monthsAhead,
+                                       @Value("${scheduler.slot-partitions.check-interval:6h}") final Duration checkInterval) {
+        this.timeSlotRepository = timeSlotRepository;
+        this.meterRegistry = meterRegistry;
+        this.monthsAhead = monthsAhead;
+        this.checkInterval = checkInterval;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        maintenance = Flux.interval(Duration.ZERO, checkInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> ensurePartitions()
+                        .onErrorResume(ex -> {
+                            log.warn("Time slot partition maintenance failed: {}", ex.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (maintenance != null) {
+            maintenance.dispose();
+        }
+    }
+
+    public Mono<Integer> ensurePartitions() {
+        return timeSlotRepository.ensurePartitions(monthsAhead)
+                .doOnNext(created -> {
+                    if (created > 0) {
+                        log.info("Created time slot partitions: count={}, monthsAhead={}", created, monthsAhead);
+                        meterRegistry.counter(METRIC_PARTITIONS_CREATED).increment(created);
+                    }
+                });
+    }
+}
@@ -1,15 +1,24 @@
 package com.doodle.scheduler.service;
 
+import com.doodle.scheduler.config.ReplicaRouting;
 import com.doodle.scheduler.domain.SlotStatus;
 import com.doodle.scheduler.domain.TimeSlot;
+import com.doodle.scheduler.dto.AvailabilityBlock;
 import com.doodle.scheduler.dto.AvailabilityResponse;
+import com.doodle.scheduler.dto.BatchSlotResult;
+import com.doodle.scheduler.dto.CalendarChangeEvent;
+import com.doodle.scheduler.dto.CommonAvailabilityRequest;
+import com.doodle.scheduler.dto.CommonAvailabilityResponse;
 import com.doodle.scheduler.dto.CreateSlotRequest;
+import com.doodle.scheduler.dto.CursorPage;
+import com.doodle.scheduler.dto.SlotCursor;
+import com.doodle.scheduler.dto.SlotDelta;
 import com.doodle.scheduler.dto.UpdateSlotRequest;
 import com.doodle.scheduler.exception.CalendarNotFoundException;
 import com.doodle.scheduler.exception.SlotLinkedToMeetingException;
 import com.doodle.scheduler.exception.SlotNotFoundException;
 import com.doodle.scheduler.exception.SlotOverlapException;
-import com.doodle.scheduler.repository.CalendarRepository;
+import com.doodle.scheduler.exception.SyncTokenExpiredException;
 import com.doodle.scheduler.repository.TimeSlotRepository;
 import io.micrometer.core.instrument.MeterRegistry;
 import lombok.NonNull;
@@ -19,8 +28,14 @@ import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
 
 @Slf4j
 @Service
@@ -30,14 +45,37 @@ public class TimeSlotService {
     private static final String ERR_CALENDAR_NOT_FOUND = "Calendar not found: ";
     private static final String ERR_SLOT_NOT_FOUND = "Slot not found: ";
     private static final String ERR_END_BEFORE_START = "endTime must be after startTime";
+    private static final String ERR_SLOT_TOO_LONG = "A slot may span at most %d days";
+    private static final String ERR_INVALID_SLOT_TIME = "endTime must be after startTime and at most %d days later";
     private static final String ERR_SLOT_OVERLAPS = "Slot overlaps with an existing slot in this calendar";
     private static final String ERR_CANNOT_FREE_MEETING_SLOT = "Cannot free a slot that is linked to a meeting";
     private static final String ERR_CANNOT_DELETE_MEETING_SLOT = "Cannot delete a slot linked to a meeting";
+    private static final String ERR_BATCH_TOO_LARGE = "Batch size must not exceed ";
+    private static final String ERR_BATCH_SELF_OVERLAP = "Slot overlaps with another slot in the same batch";
+    private static final String ERR_NO_PARTICIPANTS = "userIds must not be empty";
+    private static final String ERR_TOO_MANY_PARTICIPANTS = "userIds must not exceed ";
+    private static final String ERR_INVALID_WINDOW = "from and to are required and to must be after from";
+    private static final String ERR_WINDOW_TOO_LONG = "Time window must not exceed days: ";
+    private static final String ERR_INVALID_DURATION = "durationMinutes must be at least 1";
+    private static final String ERR_INVALID_LIMIT = "limit must be between 1 and ";
+    private static final String ERR_INVALID_SYNC_TOKEN = "since must be a token returned by a previous delta";
+    private static final String ERR_SYNC_TOKEN_EXPIRED = "Sync token predates purged deletions, resync without since: ";
     private static final String METRIC_SLOTS_CREATED = "slots_created_total";
+    private static final String QUERY_SLOTS = "slots";
+    private static final String QUERY_AVAILABILITY = "availability";
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final int MAX_SLOT_DAYS = 31;
+    private static final int MAX_COMMON_PARTICIPANTS = 1000;
+    private static final int MAX_COMMON_WINDOW_DAYS = 366;
+    private static final int DEFAULT_PAGE_SIZE = 500;
+    private static final int MAX_PAGE_SIZE = 1000;
 
     private final TimeSlotRepository timeSlotRepository;
-    private final CalendarRepository calendarRepository;
+    private final LookupCache lookupCache;
     private final MeterRegistry meterRegistry;
+    private final CalendarIntervalIndex intervalIndex;
+    private final CalendarChangeListener changeListener;
+    private final QueryCoalescer queryCoalescer;
 
     public Mono<TimeSlot> create(@NonNull final UUID calendarId,
                                  @NonNull final CreateSlotRequest request) {
@@ -45,50 +83,102 @@ public class TimeSlotService {
         if (!request.endTime().isAfter(request.startTime())) {
             return Mono.error(new IllegalArgumentException(ERR_END_BEFORE_START));
         }
-        return calendarRepository.existsById(calendarId)
-                .flatMap(exists -> {
-                    if (!exists) {
-                        log.warn("Calendar not found: {}", calendarId);
-                        return Mono.error(new CalendarNotFoundException(ERR_CALENDAR_NOT_FOUND + calendarId));
-                    }
-                    return timeSlotRepository.countOverlapping(calendarId, request.startTime(), request.endTime());
+        if (request.endTime().isAfter(request.startTime().plusDays(MAX_SLOT_DAYS))) {
+            return Mono.error(new IllegalArgumentException(ERR_SLOT_TOO_LONG.formatted(MAX_SLOT_DAYS)));
+        }
+        if (intervalIndex.overlaps(calendarId, request.startTime(), request.endTime())) {
+            log.warn("Slot overlap detected by index: calendarId={}, start={}, end={}", calendarId, request.startTime(), request.endTime());
+            return Mono.error(new SlotOverlapException(ERR_SLOT_OVERLAPS));
+        }
+        final var slot = TimeSlot.builder()
+                .calendarId(calendarId)
+                .startTime(request.startTime())
+                .endTime(request.endTime())
+                .status(SlotStatus.FREE)
+                .build();
+        return timeSlotRepository.save(slot)
+                .onErrorMap(ex -> SqlErrors.isViolation(ex, SqlErrors.FOREIGN_KEY_VIOLATION), ex -> {
+                    log.warn("Calendar not found: {}", calendarId);
+                    return new CalendarNotFoundException(ERR_CALENDAR_NOT_FOUND + calendarId);
                 })
-                .flatMap(count -> {
-                    if (count > 0) {
-                        log.warn("Slot overlap detected: calendarId={}, start={}, end={}", calendarId, request.startTime(), request.endTime());
-                        return Mono.error(new SlotOverlapException(ERR_SLOT_OVERLAPS));
-                    }
-                    final var slot = TimeSlot.builder()
-                            .calendarId(calendarId)
-                            .startTime(request.startTime())
-                            .endTime(request.endTime())
-                            .status(SlotStatus.FREE)
-                            .build();
-                    return timeSlotRepository.save(slot);
+                .onErrorMap(ex -> SqlErrors.isViolation(ex, SqlErrors.EXCLUSION_VIOLATION), ex -> {
+                    log.warn("Slot overlap detected: calendarId={}, start={}, end={}", calendarId, request.startTime(), request.endTime());
+                    return new SlotOverlapException(ERR_SLOT_OVERLAPS);
                 })
                 .doOnSuccess(s -> {
                     log.info("Slot created: id={}, calendarId={}", s.id(), s.calendarId());
+                    intervalIndex.recordCreated(calendarId, List.of(s));
                     meterRegistry.counter(METRIC_SLOTS_CREATED).increment();
                 });
     }
 
+    public Mono<List<BatchSlotResult>> createBatch(@NonNull final UUID calendarId,
+                                                   @NonNull final List<CreateSlotRequest> requests) {
+        log.info("Creating slot batch: calendarId={}, size={}", calendarId, requests.size());
+        if (requests.size() > MAX_BATCH_SIZE) {
+            return Mono.error(new IllegalArgumentException(ERR_BATCH_TOO_LARGE + MAX_BATCH_SIZE));
+        }
+        final var results = new BatchSlotResult[requests.size()];
+        final var candidates = rejectInvalidAndSelfOverlapping(requests, results);
+        if (candidates.isEmpty()) {
+            return Mono.just(List.of(results));
+        }
+        final var from = requests.get(candidates.get(0)).startTime();
+        final var to = candidates.stream()
+                .map(i -> requests.get(i).endTime())
+                .max(Comparator.naturalOrder())
+                .orElseThrow();
+        return timeSlotRepository.findOverlappingRange(calendarId, from, to)
+                .collectList()
+                .flatMap(existing -> {
+                    final var accepted = rejectOverlappingExisting(requests, candidates, existing, results);
+                    if (accepted.isEmpty()) {
+                        return Mono.just(List.of(results));
+                    }
+                    final var startTimes = accepted.stream().map(i -> requests.get(i).startTime()).toArray(LocalDateTime[]::new);
+                    final var endTimes = accepted.stream().map(i -> requests.get(i).endTime()).toArray(LocalDateTime[]::new);
+                    return timeSlotRepository.insertAll(calendarId, startTimes, endTimes)
+                            .map(inserted -> {
+                                final var slot = inserted.toTimeSlot();
+                                final var i = accepted.get((int) inserted.ordinal() - 1);
+                                results[i] = new BatchSlotResult(i, BatchSlotResult.Outcome.CREATED, slot, null);
+                                return slot;
+                            })
+                            .collectList()
+                            .map(created -> {
+                                intervalIndex.recordCreated(calendarId, created);
+                                meterRegistry.counter(METRIC_SLOTS_CREATED).increment(created.size());
+                                return List.of(results);
+                            });
+                })
+                .onErrorMap(ex -> SqlErrors.isViolation(ex, SqlErrors.FOREIGN_KEY_VIOLATION),
+                        ex -> new CalendarNotFoundException(ERR_CALENDAR_NOT_FOUND + calendarId))
+                .onErrorMap(ex -> SqlErrors.isViolation(ex, SqlErrors.EXCLUSION_VIOLATION), ex -> {
+                    log.warn("Concurrent slot overlap during batch: calendarId={}", calendarId);
+                    return new SlotOverlapException(ERR_SLOT_OVERLAPS);
+                })
+                .doOnSuccess(r -> log.info("Slot batch done: calendarId={}, created={}", calendarId,
+                        r.stream().filter(item -> item.outcome() == BatchSlotResult.Outcome.CREATED).count()));
+    }
+
     public Mono<TimeSlot> update(@NonNull final UUID slotId,
                                  @NonNull final UpdateSlotRequest request) {
         log.info("Updating slot: id={}", slotId);
-        return timeSlotRepository.findById(slotId)
-                .switchIfEmpty(Mono.error(new SlotNotFoundException(ERR_SLOT_NOT_FOUND + slotId)))
-                .flatMap(existing -> {
-                    if (existing.meetingId() != null && request.status() == SlotStatus.FREE) {
-                        log.warn("Attempt to free a meeting-linked slot: id={}, meetingId={}", slotId, existing.meetingId());
-                        return Mono.error(new SlotLinkedToMeetingException(ERR_CANNOT_FREE_MEETING_SLOT));
-                    }
-                    final var updated = existing
-                            .withStartTime(request.startTime() != null ? request.startTime() : existing.startTime())
-                            .withEndTime(request.endTime() != null ? request.endTime() : existing.endTime())
-                            .withStatus(request.status() != null ? request.status() : existing.status());
-                    return timeSlotRepository.save(updated);
+        final var statusStr = request.status() != null ? request.status().name() : null;
+        return timeSlotRepository.updateUnlessFreeingMeetingSlot(slotId, request.startTime(), request.endTime(), statusStr)
+                .switchIfEmpty(Mono.defer(() -> rejectUpdate(slotId)))
+                .onErrorMap(ex -> SqlErrors.isViolation(ex, SqlErrors.CHECK_VIOLATION),
+                        ex -> new IllegalArgumentException(ERR_INVALID_SLOT_TIME.formatted(MAX_SLOT_DAYS)))
+                .onErrorMap(ex -> SqlErrors.isViolation(ex, SqlErrors.EXCLUSION_VIOLATION), ex -> {
+                    log.warn("Slot overlap detected on update: id={}", slotId);
+                    return new SlotOverlapException(ERR_SLOT_OVERLAPS);
                 })
-                .doOnSuccess(s -> log.info("Slot updated: id={}, status={}", s.id(), s.status()));
+                .doOnSuccess(s -> {
+                    log.info("Slot updated: id={}, status={}", s.id(), s.status());
+                    if (request.startTime() != null || request.endTime() != null) {
+                        intervalIndex.invalidate(s.calendarId());
+                    }
+                });
     }
 
     public Mono<Void> delete(@NonNull final UUID slotId) {
@@ -100,25 +190,264 @@ public class TimeSlotService {
                         log.warn("Attempt to delete a meeting-linked slot: id={}, meetingId={}", slotId, slot.meetingId());
                         return Mono.error(new SlotLinkedToMeetingException(ERR_CANNOT_DELETE_MEETING_SLOT));
                     }
-                    return timeSlotRepository.deleteById(slotId);
+                    return timeSlotRepository.deleteById(slotId)
+                            .doOnSuccess(v -> intervalIndex.invalidate(slot.calendarId()));
                 })
                 .doOnSuccess(v -> log.info("Slot deleted: id={}", slotId));
     }
 
-    public Flux<TimeSlot> findByCalendar(@NonNull final UUID calendarId,
-                                         final SlotStatus status,
-                                         final LocalDateTime from,
-                                         final LocalDateTime to) {
-        log.debug("Finding slots: calendarId={}, status={}, from={}, to={}", calendarId, status, from, to);
+    public Mono<CursorPage<TimeSlot>> findByCalendar(@NonNull final UUID calendarId,
+                                                     final SlotStatus status,
+                                                     final LocalDateTime from,
+                                                     final LocalDateTime to,
+                                                     final String cursor,
+                                                     final Integer limit) {
+        log.debug("Finding slots: calendarId={}, status={}, from={}, to={}, cursor={}, limit={}",
+                calendarId, status, from, to, cursor, limit);
+        final var statusStr = status != null ? status.name() : null;
+        return queryCoalescer.execute(QUERY_SLOTS, new SlotQuery(calendarId, status, from, to, cursor, limit),
+                () -> ReplicaRouting.readOnly(Mono.fromCallable(() -> pageRequest(cursor, limit))
+                        .flatMap(page -> findCalendarVersion(calendarId)
+                                .flatMap(version -> toPage(timeSlotRepository.findByCalendarIdWithFilters(calendarId,
+                                                statusStr, from, to, page.afterStart(), page.afterId(), page.size() + 1),
+                                        page.size(), version, slot -> slot, TimeSlot::startTime, TimeSlot::id)))));
+    }
+
+    public Mono<String> findCalendarVersion(@NonNull final UUID calendarId) {
+        return ReplicaRouting.readOnly(timeSlotRepository.findCalendarVersion(calendarId).map(String::valueOf));
+    }
+
+    public Mono<SlotDelta> findDelta(@NonNull final UUID calendarId, final Long since) {
+        log.debug("Finding slot delta: calendarId={}, since={}", calendarId, since);
+        if (since != null && since < 0) {
+            return Mono.error(new IllegalArgumentException(ERR_INVALID_SYNC_TOKEN));
+        }
+        return lookupCache.findCalendar(calendarId)
+                .switchIfEmpty(Mono.error(new CalendarNotFoundException(ERR_CALENDAR_NOT_FOUND + calendarId)))
+                .flatMap(calendar -> ReplicaRouting.readOnly(timeSlotRepository.findCalendarVersion(calendarId)
+                        .flatMap(version -> {
+                            if (since == null) {
+                                return timeSlotRepository.streamByCalendarIdWithFilters(calendarId, null, null, null)
+                                        .collectList()
+                                        .map(slots -> new SlotDelta(slots, List.of(), String.valueOf(version)));
+                            }
+                            if (since >= version) {
+                                return Mono.just(new SlotDelta(List.of(), List.of(), String.valueOf(since)));
+                            }
+                            return timeSlotRepository.findChangedSince(calendarId, since)
+                                    .collectList()
+                                    .flatMap(upserted -> timeSlotRepository.findDeletedSince(calendarId, since)
+                                            .collectList()
+                                            .map(deleted -> new SlotDelta(upserted, deleted, String.valueOf(version))))
+                                    .flatMap(delta -> timeSlotRepository.findTombstoneFloor(calendarId)
+                                            .flatMap(floor -> since < floor
+                                                    ? Mono.error(new SyncTokenExpiredException(ERR_SYNC_TOKEN_EXPIRED + since))
+                                                    : Mono.just(delta)));
+                        })));
+    }
+
+    public Flux<TimeSlot> streamByCalendar(@NonNull final UUID calendarId,
+                                           final SlotStatus status,
+                                           final LocalDateTime from,
+                                           final LocalDateTime to) {
+        log.debug("Streaming slots: calendarId={}, status={}, from={}, to={}", calendarId, status, from, to);
         final var statusStr = status != null ? status.name() : null;
-        return timeSlotRepository.findByCalendarIdWithFilters(calendarId, statusStr, from, to);
+        return ReplicaRouting.readOnly(timeSlotRepository.streamByCalendarIdWithFilters(calendarId, statusStr, from, to));
+    }
+
+    public Mono<Flux<CalendarChangeEvent>> watchChanges(@NonNull final UUID calendarId) {
+        log.debug("Watching slot changes: calendarId={}", calendarId);
+        return lookupCache.findCalendar(calendarId)
+                .hasElement()
+                .flatMap(exists -> {
+                    if (!exists) {
+                        return Mono.error(new CalendarNotFoundException(ERR_CALENDAR_NOT_FOUND + calendarId));
+                    }
+                    return Mono.just(changeListener.changes()
+                            .filter(change -> change.calendarId().equals(calendarId))
+                            .map(change -> new CalendarChangeEvent(change.calendarId(), change.operation()))
+                            .onBackpressureLatest());
+                });
+    }
+
+    public Mono<CursorPage<AvailabilityResponse>> getAvailability(@NonNull final UUID userId,
+                                                                  @NonNull final LocalDateTime from,
+                                                                  @NonNull final LocalDateTime to,
+                                                                  final String cursor,
+                                                                  final Integer limit) {
+        log.debug("Getting availability: userId={}, from={}, to={}, cursor={}, limit={}", userId, from, to, cursor, limit);
+        return queryCoalescer.execute(QUERY_AVAILABILITY, new AvailabilityQuery(userId, from, to, cursor, limit),
+                () -> ReplicaRouting.readOnly(Mono.fromCallable(() -> pageRequest(cursor, limit))
+                        .flatMap(page -> findAvailabilityVersion(userId)
+                                .flatMap(version -> toPage(timeSlotRepository.findByUserIdAndTimeRange(userId, from, to,
+                                                page.afterStart(), page.afterId(), page.size() + 1), page.size(), version,
+                                        slot -> new AvailabilityResponse(slot.id(), slot.startTime(), slot.endTime(), slot.status()),
+                                        AvailabilityResponse::startTime, AvailabilityResponse::slotId)))));
+    }
+
+    public Flux<AvailabilityResponse> streamAvailability(@NonNull final UUID userId,
+                                                         @NonNull final LocalDateTime from,
+                                                         @NonNull final LocalDateTime to) {
+        log.debug("Streaming availability: userId={}, from={}, to={}", userId, from, to);
+        return ReplicaRouting.readOnly(timeSlotRepository.streamByUserIdAndTimeRange(userId, from, to)
+                .map(slot -> new AvailabilityResponse(slot.id(), slot.startTime(), slot.endTime(), slot.status())));
+    }
+
+    public Mono<String> findAvailabilityVersion(@NonNull final UUID userId) {
+        return ReplicaRouting.readOnly(timeSlotRepository.findUserCalendarsVersion(userId));
+    }
+
+    public Flux<AvailabilityBlock> getCoalescedAvailability(@NonNull final UUID userId,
+                                                            @NonNull final LocalDateTime from,
+                                                            @NonNull final LocalDateTime to,
+                                                            final boolean includeSlotIds) {
+        log.debug("Getting coalesced availability: userId={}, from={}, to={}, includeSlotIds={}", userId, from, to, includeSlotIds);
+        return ReplicaRouting.readOnly(Flux.defer(() -> {
+            final var coalescer = new AvailabilityCoalescer(includeSlotIds);
+            return timeSlotRepository.streamByUserIdAndTimeRange(userId, from, to)
+                    .<AvailabilityBlock>handle((slot, sink) -> {
+                        final var closed = coalescer.accept(slot);
+                        if (closed != null) {
+                            sink.next(closed);
+                        }
+                    })
+                    .concatWith(Flux.defer(() -> Flux.fromIterable(coalescer.finish())));
+        }));
+    }
+
+    public Flux<CommonAvailabilityResponse> findCommonAvailability(@NonNull final CommonAvailabilityRequest request) {
+        log.debug("Finding common availability: users={}, from={}, to={}, duration={}m",
+                request.userIds() != null ? request.userIds().size() : 0, request.from(), request.to(), request.durationMinutes());
+        final var error = validate(request);
+        if (error != null) {
+            return Flux.error(new IllegalArgumentException(error));
+        }
+        final var userIds = request.userIds().stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toArray(UUID[]::new);
+        return ReplicaRouting.readOnly(timeSlotRepository.findFreeIntervalsForUsers(userIds, request.from(), request.to())
+                .collect(() -> new CommonFreeTimeSweep(userIds.length, request.from(), request.to()),
+                        (sweep, interval) -> sweep.accept(interval.userId(), interval.startTime(), interval.endTime()))
+                .flatMapIterable(sweep -> sweep.finish(request.durationMinutes())));
+    }
+
+    private static <T> Mono<CursorPage<T>> toPage(@NonNull final Flux<TimeSlot> rows,
+                                                  final int size,
+                                                  @NonNull final String version,
+                                                  @NonNull final Function<TimeSlot, T> mapper,
+                                                  @NonNull final Function<T, LocalDateTime> startTime,
+                                                  @NonNull final Function<T, UUID> id) {
+        return rows.map(mapper)
+                .collectList()
+                .map(items -> {
+                    if (items.size() <= size) {
+                        return new CursorPage<>(items, null, version);
+                    }
+                    final var page = items.subList(0, size);
+                    final var last = page.get(size - 1);
+                    return new CursorPage<>(List.copyOf(page), new SlotCursor(startTime.apply(last), id.apply(last)).encode(), version);
+                });
+    }
+
+    private Mono<TimeSlot> rejectUpdate(@NonNull final UUID slotId) {
+        return timeSlotRepository.findById(slotId)
+                .switchIfEmpty(Mono.error(new SlotNotFoundException(ERR_SLOT_NOT_FOUND + slotId)))
+                .flatMap(existing -> {
+                    log.warn("Attempt to free a meeting-linked slot: id={}, meetingId={}", slotId, existing.meetingId());
+                    return Mono.error(new SlotLinkedToMeetingException(ERR_CANNOT_FREE_MEETING_SLOT));
+                });
+    }
+
+    private static PageRequest pageRequest(final String cursor, final Integer limit) {
+        final var size = limit != null ? limit : DEFAULT_PAGE_SIZE;
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException(ERR_INVALID_LIMIT + MAX_PAGE_SIZE);
+        }
+        if (cursor == null) {
+            return new PageRequest(null, null, size);
+        }
+        final var after = SlotCursor.decode(cursor);
+        return new PageRequest(after.startTime(), after.id(), size);
+    }
+
+    private static List<Integer> rejectInvalidAndSelfOverlapping(@NonNull final List<CreateSlotRequest> requests,
+                                                                 @NonNull final BatchSlotResult[] results) {
+        final var valid = new ArrayList<Integer>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            final var req = requests.get(i);
+            if (req == null || req.startTime() == null || req.endTime() == null
+                    || !req.endTime().isAfter(req.startTime())) {
+                results[i] = new BatchSlotResult(i, BatchSlotResult.Outcome.INVALID, null, ERR_END_BEFORE_START);
+            } else if (req.endTime().isAfter(req.startTime().plusDays(MAX_SLOT_DAYS))) {
+                results[i] = new BatchSlotResult(i, BatchSlotResult.Outcome.INVALID, null, ERR_SLOT_TOO_LONG.formatted(MAX_SLOT_DAYS));
+            } else {
+                valid.add(i);
+            }
+        }
+        valid.sort(Comparator.comparing((Integer i) -> requests.get(i).startTime())
+                .thenComparing(i -> requests.get(i).endTime()));
+
+        final var candidates = new ArrayList<Integer>(valid.size());
+        LocalDateTime lastEnd = null;
+        for (final var i : valid) {
+            final var req = requests.get(i);
+            if (lastEnd != null && req.startTime().isBefore(lastEnd)) {
+                results[i] = new BatchSlotResult(i, BatchSlotResult.Outcome.CONFLICT, null, ERR_BATCH_SELF_OVERLAP);
+            } else {
+                candidates.add(i);
+                lastEnd = req.endTime();
+            }
+        }
+        return candidates;
+    }
+
+    private static List<Integer> rejectOverlappingExisting(@NonNull final List<CreateSlotRequest> requests,
+                                                           @NonNull final List<Integer> candidates,
+                                                           @NonNull final List<TimeSlot> existing,
+                                                           @NonNull final BatchSlotResult[] results) {
+        final var accepted = new ArrayList<Integer>(candidates.size());
+        int cursor = 0;
+        for (final var i : candidates) {
+            final var req = requests.get(i);
+            while (cursor < existing.size() && !existing.get(cursor).endTime().isAfter(req.startTime())) {
+                cursor++;
+            }
+            if (cursor < existing.size() && existing.get(cursor).startTime().isBefore(req.endTime())) {
+                results[i] = new BatchSlotResult(i, BatchSlotResult.Outcome.CONFLICT, null, ERR_SLOT_OVERLAPS);
+            } else {
+                accepted.add(i);
+            }
+        }
+        return accepted;
+    }
+
+    private static String validate(@NonNull final CommonAvailabilityRequest request) {
+        if (request.userIds() == null || request.userIds().isEmpty()) {
+            return ERR_NO_PARTICIPANTS;
+        }
+        if (request.userIds().size() > MAX_COMMON_PARTICIPANTS) {
+            return ERR_TOO_MANY_PARTICIPANTS + MAX_COMMON_PARTICIPANTS;
+        }
+        if (request.from() == null || request.to() == null || !request.to().isAfter(request.from())) {
+            return ERR_INVALID_WINDOW;
+        }
+        if (Duration.between(request.from(), request.to()).toDays() > MAX_COMMON_WINDOW_DAYS) {
+            return ERR_WINDOW_TOO_LONG + MAX_COMMON_WINDOW_DAYS;
+        }
+        if (request.durationMinutes() == null || request.durationMinutes() < 1) {
+            return ERR_INVALID_DURATION;
+        }
+        return null;
+    }
+
+    private record PageRequest(LocalDateTime afterStart, UUID afterId, int size) {
+    }
+
+    private record SlotQuery(UUID calendarId, SlotStatus status, LocalDateTime from, LocalDateTime to,
+                             String cursor, Integer limit) {
     }
 
-    public Flux<AvailabilityResponse> getAvailability(@NonNull final UUID userId,
-                                                      @NonNull final LocalDateTime from,
-                                                      @NonNull final LocalDateTime to) {
-        log.debug("Getting availability: userId={}, from={}, to={}", userId, from, to);
-        return timeSlotRepository.findByUserIdAndTimeRange(userId, from, to)
-                .map(slot -> new AvailabilityResponse(slot.id(), slot.startTime(), slot.endTime(), slot.status()));
+    private record AvailabilityQuery(UUID userId, LocalDateTime from, LocalDateTime to, String cursor, Integer limit) {
     }
 }
@@ -0,0 +1,183 @@
+package com.doodle.scheduler.service;
+
+import com.doodle.scheduler.domain.User;
+import com.doodle.scheduler.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+@Slf4j
+@Service
+public class UserPrefixIndex {
+
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final UserRepository userRepository;
+    private final CalendarChangeListener changeListener;
+    private final boolean enabled;
+    private final Duration refreshInterval;
+    private final ConcurrentSkipListMap<String, Recent> recent = new ConcurrentSkipListMap<>();
+    private final Map<UUID, Long> removed = new ConcurrentHashMap<>();
+    private volatile Snapshot snapshot;
+    private Disposable refresh;
+    private Disposable invalidations;
+
+    public UserPrefixIndex(@NonNull final UserRepository userRepository,
+                           @NonNull final CalendarChangeListener changeListener,
+                           @Value("${scheduler.user-prefix-index.enabled:false}") final boolean enabled,
+                           @Value("${scheduler.user-prefix-index.refresh:10m}") final Duration refreshInterval) {
+        this.userRepository = userRepository;
+        this.changeListener = changeListener;
+        this.enabled = enabled;
+        this.refreshInterval = refreshInterval;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        invalidations = changeListener.invalidations()
+                .filter(invalidation -> "users".equals(invalidation.table()))
+                .concatMap(invalidation -> reload(invalidation.id())
+                        .onErrorResume(ex -> {
+                            log.warn("User prefix index reload failed: userId={}, error={}", invalidation.id(), ex.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe();
+        refresh = Flux.interval(Duration.ZERO, refreshInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> rebuild()
+                        .onErrorResume(ex -> {
+                            log.warn("User prefix index rebuild failed: {}", ex.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (refresh != null) {
+            refresh.dispose();
+        }
+        if (invalidations != null) {
+            invalidations.dispose();
+        }
+    }
+
+    public List<User> search(@NonNull final String query, final int limit) {
+        final var current = snapshot;
+        if (current == null) {
+            return List.of();
+        }
+        final var prefix = normalize(query);
+        final var matches = new LinkedHashMap<UUID, User>();
+        recent.subMap(prefix, prefix + Character.MAX_VALUE).values().stream()
+                .filter(entry -> entry.addedAt() >= removed.getOrDefault(entry.user().id(), Long.MIN_VALUE))
+                .map(Recent::user)
+                .forEach(user -> matches.putIfAbsent(user.id(), user));
+        current.collect(prefix, limit, removed, matches);
+        return matches.values().stream().limit(limit).toList();
+    }
+
+    public void add(@NonNull final User user) {
+        if (!enabled) {
+            return;
+        }
+        final var now = System.nanoTime();
+        recent.put(key(user.username(), user.id()), new Recent(user, now));
+        recent.put(key(user.email(), user.id()), new Recent(user, now));
+    }
+
+    public void remove(@NonNull final UUID userId) {
+        removed.put(userId, System.nanoTime());
+        recent.values().removeIf(entry -> entry.user().id().equals(userId));
+    }
+
+    public Mono<Void> reload(@NonNull final UUID userId) {
+        return Mono.defer(() -> {
+            remove(userId);
+            return userRepository.findById(userId)
+                    .doOnNext(this::add)
+                    .then();
+        });
+    }
+
+    public Mono<Void> rebuild() {
+        final var startedAt = System.nanoTime();
+        return userRepository.findAll()
+                .collectList()
+                .doOnNext(users -> {
+                    snapshot = Snapshot.of(users);
+                    recent.values().removeIf(entry -> entry.addedAt() < startedAt);
+                    removed.values().removeIf(removedAt -> removedAt < startedAt);
+                    log.info("User prefix index rebuilt: users={}", users.size());
+                })
+                .then();
+    }
+
+    private static String key(@NonNull final String value, @NonNull final UUID id) {
+        return normalize(value) + KEY_SEPARATOR + id;
+    }
+
+    private static String normalize(@NonNull final String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private record Recent(User user, long addedAt) {
+    }
+
+    private record Snapshot(String[] keys, User[] users) {
+
+        static Snapshot of(@NonNull final List<User> all) {
+            final var entries = new ArrayList<Map.Entry<String, User>>(all.size() * 2);
+            for (final var user : all) {
+                entries.add(Map.entry(normalize(user.username()), user));
+                entries.add(Map.entry(normalize(user.email()), user));
+            }
+            entries.sort(Map.Entry.comparingByKey(Comparator.naturalOrder()));
+            final var keys = new String[entries.size()];
+            final var users = new User[entries.size()];
+            for (int i = 0; i < entries.size(); i++) {
+                keys[i] = entries.get(i).getKey();
+                users[i] = entries.get(i).getValue();
+            }
+            return new Snapshot(keys, users);
+        }
+
+        void collect(@NonNull final String prefix,
+                     final int limit,
+                     @NonNull final Map<UUID, Long> removed,
+                     @NonNull final Map<UUID, User> matches) {
+            final var found = Arrays.binarySearch(keys, prefix);
+            var i = found >= 0 ? found : -found - 1;
+            while (i > 0 && keys[i - 1].equals(prefix)) {
+                i--;
+            }
+            for (; i < keys.length && matches.size() < limit && keys[i].startsWith(prefix); i++) {
+                if (!removed.containsKey(users[i].id())) {
+                    matches.putIfAbsent(users[i].id(), users[i]);
+                }
+            }
+        }
+    }
+}
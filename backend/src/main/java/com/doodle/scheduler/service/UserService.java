@@ -1,5 +1,6 @@
 package com.doodle.scheduler.service;
 
+import com.doodle.scheduler.config.ReplicaRouting;
 import com.doodle.scheduler.domain.User;
 import com.doodle.scheduler.dto.CreateUserRequest;
 import com.doodle.scheduler.exception.EmailAlreadyInUseException;
@@ -14,6 +15,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -23,8 +25,11 @@ public class UserService {
     private static final String ERR_EMAIL_IN_USE = "Email already in use: ";
     private static final String ERR_USERNAME_IN_USE = "Username already in use: ";
     private static final String ERR_USER_NOT_FOUND = "User not found: ";
+    private static final int SEARCH_LIMIT = 10;
 
     private final UserRepository userRepository;
+    private final LookupCache lookupCache;
+    private final UserPrefixIndex prefixIndex;
 
     public Mono<User> create(@NonNull final CreateUserRequest request) {
         log.info("Creating user: username={}, email={}", request.username(), request.email());
@@ -47,17 +52,34 @@ public class UserService {
                             .build();
                     return userRepository.save(user);
                 })
-                .doOnSuccess(u -> log.info("User created: id={}, username={}", u.id(), u.username()));
+                .doOnSuccess(u -> {
+                    log.info("User created: id={}, username={}", u.id(), u.username());
+                    lookupCache.putUser(u);
+                    prefixIndex.add(u);
+                });
     }
 
     public Mono<User> findById(@NonNull final UUID id) {
         log.debug("Finding user by id={}", id);
-        return userRepository.findById(id)
+        return lookupCache.findUser(id)
                 .switchIfEmpty(Mono.error(new UserNotFoundException(ERR_USER_NOT_FOUND + id)));
     }
 
     public Flux<User> search(@NonNull final String query) {
         log.debug("Searching users: query={}", query);
-        return userRepository.searchByUsernameOrEmail(query);
+        final var prefixMatches = prefixIndex.search(query, SEARCH_LIMIT);
+        if (prefixMatches.size() >= SEARCH_LIMIT) {
+            return Flux.fromIterable(prefixMatches);
+        }
+        final var seen = prefixMatches.stream().map(User::id).collect(Collectors.toSet());
+        return Flux.fromIterable(prefixMatches)
+                .concatWith(ReplicaRouting.readOnly(
+                                userRepository.searchByUsernameOrEmail(query, "%" + escapeLike(query) + "%", SEARCH_LIMIT))
+                        .filter(user -> !seen.contains(user.id())))
+                .take(SEARCH_LIMIT);
+    }
+
+    private static String escapeLike(@NonNull final String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
     }
 }
@@ -0,0 +1,158 @@
+ALTER TABLE time_slots RENAME TO time_slots_unpartitioned;
+
+ALTER TABLE time_slots_unpartitioned
+    DROP CONSTRAINT time_slots_pkey,
+    DROP CONSTRAINT excl_timeslot_no_overlap;
+
+DROP INDEX idx_timeslot_calendar_time;
+DROP INDEX idx_timeslot_status;
+DROP INDEX idx_timeslot_covering;
+DROP INDEX idx_timeslot_series;
+
+CREATE TABLE time_slots (
+    id          UUID        NOT NULL DEFAULT gen_random_uuid(),
+    calendar_id UUID        NOT NULL REFERENCES calendars(id) ON DELETE CASCADE,
+    start_time  TIMESTAMP   NOT NULL,
+    end_time    TIMESTAMP   NOT NULL,
+    status      VARCHAR(10) NOT NULL DEFAULT 'FREE',
+    meeting_id  UUID        REFERENCES meetings(id) ON DELETE SET NULL,
+    created_at  TIMESTAMP   NOT NULL DEFAULT now(),
+    time_range  TSRANGE     GENERATED ALWAYS AS (tsrange(start_time, end_time, '[)')) STORED,
+    series_id   UUID        REFERENCES slot_series(id) ON DELETE SET NULL,
+    PRIMARY KEY (id, start_time),
+    CONSTRAINT chk_slot_time CHECK (end_time > start_time)
+) PARTITION BY RANGE (start_time);
+
+CREATE TABLE time_slots_default PARTITION OF time_slots DEFAULT;
+
+ALTER TABLE time_slots_default
+    ADD CONSTRAINT time_slots_default_no_overlap
+        EXCLUDE USING gist (calendar_id WITH =, time_range WITH &&);
+
+CREATE INDEX idx_timeslot_calendar_time
+    ON time_slots(calendar_id, start_time, end_time);
+
+CREATE INDEX idx_timeslot_status
+    ON time_slots(status, calendar_id);
+
+CREATE INDEX idx_timeslot_covering
+    ON time_slots(calendar_id) INCLUDE (start_time, end_time, status);
+
+CREATE INDEX idx_timeslot_series
+    ON time_slots(series_id, start_time)
+    WHERE series_id IS NOT NULL;
+
+CREATE FUNCTION create_time_slot_partition(for_month DATE) RETURNS BOOLEAN AS $$
+DECLARE
+    lower_bound    TIMESTAMP := date_trunc('month', for_month::timestamp);
+    upper_bound    TIMESTAMP := date_trunc('month', for_month::timestamp) + INTERVAL '1 month';
+    partition_name TEXT      := 'time_slots_' || to_char(for_month, 'YYYY_MM');
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('time_slots_partitions'));
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    LOCK TABLE time_slots_default IN ACCESS EXCLUSIVE MODE;
+    EXECUTE format('CREATE TABLE %I (LIKE time_slots INCLUDING DEFAULTS INCLUDING GENERATED)',
+                   partition_name);
+    EXECUTE format($sql$
+        WITH moved AS (
+            DELETE FROM time_slots_default
+            WHERE start_time >= $1 AND start_time < $2
+            RETURNING id, calendar_id, start_time, end_time, status, meeting_id, created_at, series_id
+        )
+        INSERT INTO %I (id, calendar_id, start_time, end_time, status, meeting_id, created_at, series_id)
+        SELECT * FROM moved
+        $sql$, partition_name) USING lower_bound, upper_bound;
+    EXECUTE format('ALTER TABLE %I ADD CONSTRAINT chk_slot_time CHECK (end_time > start_time)', partition_name);
+    EXECUTE format($sql$ALTER TABLE %I ADD CONSTRAINT chk_slot_max_length CHECK (end_time <= start_time + INTERVAL '31 days') NOT VALID$sql$,
+                   partition_name);
+    EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I EXCLUDE USING gist (calendar_id WITH =, time_range WITH &&)',
+                   partition_name, partition_name || '_no_overlap');
+    EXECUTE format('ALTER TABLE time_slots ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, lower_bound, upper_bound);
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION ensure_time_slot_partitions(months_ahead INTEGER) RETURNS INTEGER AS $$
+DECLARE
+    current_month DATE    := date_trunc('month', now() AT TIME ZONE 'UTC');
+    created       INTEGER := 0;
+BEGIN
+    FOR i IN 0..months_ahead LOOP
+        IF create_time_slot_partition((current_month + make_interval(months => i))::date) THEN
+            created := created + 1;
+        END IF;
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION guard_time_slot_cross_partition_overlap() RETURNS trigger AS $$
+DECLARE
+    month_start TIMESTAMP := date_trunc('month', NEW.start_time);
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtextextended(NEW.calendar_id::text, 0));
+    IF EXISTS (
+        SELECT 1 FROM time_slots
+        WHERE calendar_id = NEW.calendar_id
+          AND id <> NEW.id
+          AND start_time >= NEW.start_time - INTERVAL '31 days'
+          AND start_time < NEW.end_time
+          AND (start_time < month_start OR start_time >= month_start + INTERVAL '1 month')
+          AND time_range && tsrange(NEW.start_time, NEW.end_time, '[)')
+    ) THEN
+        RAISE EXCEPTION 'conflicting time slot in calendar % across a month boundary', NEW.calendar_id
+            USING ERRCODE = 'exclusion_violation';
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DO $$
+DECLARE
+    too_long BIGINT;
+BEGIN
+    SELECT count(*) INTO too_long
+    FROM time_slots_unpartitioned
+    WHERE end_time > start_time + INTERVAL '31 days';
+    IF too_long > 0 THEN
+        RAISE WARNING '% existing time slots span more than 31 days; they are kept and chk_slot_max_length stays NOT VALID until they are shortened or removed', too_long;
+    END IF;
+END;
+$$;
+
+INSERT INTO time_slots (id, calendar_id, start_time, end_time, status, meeting_id, created_at, series_id)
+SELECT id, calendar_id, start_time, end_time, status, meeting_id, created_at, series_id
+FROM time_slots_unpartitioned;
+
+ALTER TABLE time_slots
+    ADD CONSTRAINT chk_slot_max_length CHECK (end_time <= start_time + INTERVAL '31 days') NOT VALID;
+
+SELECT create_time_slot_partition(slot_month)
+FROM (SELECT DISTINCT date_trunc('month', start_time)::date AS slot_month FROM time_slots_default) AS months;
+
+SELECT ensure_time_slot_partitions(3);
+
+DROP TABLE time_slots_unpartitioned;
+
+CREATE TRIGGER trg_time_slots_cross_partition_overlap
+    BEFORE INSERT OR UPDATE OF calendar_id, start_time, end_time ON time_slots
+    FOR EACH ROW EXECUTE FUNCTION guard_time_slot_cross_partition_overlap();
+
+CREATE TRIGGER trg_time_slots_insert_notify
+    AFTER INSERT ON time_slots
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_calendar_changes();
+
+CREATE TRIGGER trg_time_slots_update_notify
+    AFTER UPDATE ON time_slots
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_calendar_changes();
+
+CREATE TRIGGER trg_time_slots_delete_notify
+    AFTER DELETE ON time_slots
+    REFERENCING OLD TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_calendar_changes();
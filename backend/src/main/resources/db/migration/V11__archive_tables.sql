@@ -0,0 +1,37 @@
+CREATE TABLE meetings_archive (
+    id           UUID         PRIMARY KEY,
+    title        VARCHAR(255) NOT NULL,
+    description  TEXT,
+    organizer_id UUID         NOT NULL,
+    slot_id      UUID         NOT NULL,
+    created_at   TIMESTAMP    NOT NULL,
+    archived_at  TIMESTAMP    NOT NULL DEFAULT now()
+);
+
+CREATE TABLE meeting_participants_archive (
+    id          UUID      PRIMARY KEY,
+    meeting_id  UUID      NOT NULL,
+    user_id     UUID      NOT NULL,
+    archived_at TIMESTAMP NOT NULL DEFAULT now()
+);
+
+CREATE TABLE time_slots_archive (
+    id          UUID        PRIMARY KEY,
+    calendar_id UUID        NOT NULL,
+    start_time  TIMESTAMP   NOT NULL,
+    end_time    TIMESTAMP   NOT NULL,
+    status      VARCHAR(10) NOT NULL,
+    meeting_id  UUID,
+    series_id   UUID,
+    created_at  TIMESTAMP   NOT NULL,
+    archived_at TIMESTAMP   NOT NULL DEFAULT now()
+);
+
+CREATE INDEX idx_meetings_archive_organizer
+    ON meetings_archive(organizer_id);
+
+CREATE INDEX idx_participants_archive_meeting
+    ON meeting_participants_archive(meeting_id);
+
+CREATE INDEX idx_timeslot_archive_calendar_time
+    ON time_slots_archive(calendar_id, start_time);
@@ -0,0 +1,9 @@
+CREATE TABLE idempotency_keys (
+    id           BYTEA     PRIMARY KEY,
+    request_hash BYTEA     NOT NULL,
+    status       SMALLINT  NOT NULL,
+    body         BYTEA     NOT NULL,
+    expires_at   TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_idempotency_keys_expires ON idempotency_keys(expires_at);
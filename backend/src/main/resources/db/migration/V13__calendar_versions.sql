@@ -0,0 +1,31 @@
+CREATE TABLE calendar_versions (
+    calendar_id UUID   PRIMARY KEY REFERENCES calendars(id) ON DELETE CASCADE,
+    version     BIGINT NOT NULL
+);
+
+CREATE FUNCTION bump_calendar_versions() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO calendar_versions AS v (calendar_id, version)
+    SELECT c.calendar_id, 1
+    FROM (SELECT DISTINCT calendar_id FROM changed_rows) AS c
+    WHERE EXISTS (SELECT 1 FROM calendars WHERE id = c.calendar_id)
+    ORDER BY c.calendar_id
+    ON CONFLICT (calendar_id) DO UPDATE SET version = v.version + 1;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_time_slots_insert_version
+    AFTER INSERT ON time_slots
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_calendar_versions();
+
+CREATE TRIGGER trg_time_slots_update_version
+    AFTER UPDATE ON time_slots
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_calendar_versions();
+
+CREATE TRIGGER trg_time_slots_delete_version
+    AFTER DELETE ON time_slots
+    REFERENCING OLD TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION bump_calendar_versions();
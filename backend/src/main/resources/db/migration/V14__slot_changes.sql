@@ -0,0 +1,37 @@
+ALTER TABLE calendar_versions ADD COLUMN tombstone_floor BIGINT NOT NULL DEFAULT 0;
+
+CREATE TABLE slot_changes (
+    slot_id     UUID      PRIMARY KEY,
+    calendar_id UUID      NOT NULL REFERENCES calendars(id) ON DELETE CASCADE,
+    version     BIGINT    NOT NULL,
+    deleted     BOOLEAN   NOT NULL,
+    changed_at  TIMESTAMP NOT NULL DEFAULT now()
+);
+
+CREATE INDEX idx_slot_changes_calendar_version ON slot_changes(calendar_id, version);
+CREATE INDEX idx_slot_changes_tombstones ON slot_changes(changed_at) WHERE deleted;
+
+CREATE OR REPLACE FUNCTION bump_calendar_versions() RETURNS trigger AS $$
+BEGIN
+    WITH bumped AS (
+        INSERT INTO calendar_versions AS v (calendar_id, version)
+        SELECT c.calendar_id, 1
+        FROM (SELECT DISTINCT calendar_id FROM changed_rows) AS c
+        WHERE EXISTS (SELECT 1 FROM calendars WHERE id = c.calendar_id)
+        ORDER BY c.calendar_id
+        ON CONFLICT (calendar_id) DO UPDATE SET version = v.version + 1
+        RETURNING v.calendar_id, v.version
+    )
+    INSERT INTO slot_changes AS s (slot_id, calendar_id, version, deleted)
+    SELECT DISTINCT ON (r.id) r.id, r.calendar_id, b.version, TG_OP = 'DELETE'
+    FROM changed_rows r
+    JOIN bumped b ON b.calendar_id = r.calendar_id
+    ORDER BY r.id
+    ON CONFLICT (slot_id) DO UPDATE
+        SET calendar_id = EXCLUDED.calendar_id,
+            version     = EXCLUDED.version,
+            deleted     = EXCLUDED.deleted,
+            changed_at  = now();
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,9 @@
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE time_slots
+    ADD COLUMN time_range TSRANGE
+        GENERATED ALWAYS AS (tsrange(start_time, end_time, '[)')) STORED;
+
+ALTER TABLE time_slots
+    ADD CONSTRAINT excl_timeslot_no_overlap
+        EXCLUDE USING gist (calendar_id WITH =, time_range WITH &&);
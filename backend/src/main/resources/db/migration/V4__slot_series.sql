@@ -0,0 +1,21 @@
+CREATE TABLE slot_series (
+    id                UUID      PRIMARY KEY DEFAULT gen_random_uuid(),
+    calendar_id       UUID      NOT NULL REFERENCES calendars(id) ON DELETE CASCADE,
+    days_of_week_mask INTEGER   NOT NULL,
+    day_start         TIME      NOT NULL,
+    day_end           TIME      NOT NULL,
+    slot_minutes      INTEGER   NOT NULL,
+    start_date        DATE      NOT NULL,
+    end_date          DATE      NOT NULL,
+    created_at        TIMESTAMP NOT NULL DEFAULT now(),
+    CONSTRAINT chk_series_day CHECK (day_end > day_start),
+    CONSTRAINT chk_series_dates CHECK (end_date >= start_date),
+    CONSTRAINT chk_series_slot CHECK (slot_minutes > 0)
+);
+
+ALTER TABLE time_slots
+    ADD COLUMN series_id UUID REFERENCES slot_series(id) ON DELETE SET NULL;
+
+CREATE INDEX idx_timeslot_series
+    ON time_slots(series_id, start_time)
+    WHERE series_id IS NOT NULL;
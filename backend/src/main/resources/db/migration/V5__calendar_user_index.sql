@@ -0,0 +1,2 @@
+CREATE INDEX idx_calendar_user
+    ON calendars(user_id);
@@ -0,0 +1,22 @@
+CREATE FUNCTION notify_calendar_changes() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_notify('calendar_changes', c.calendar_id::text || ':' || current_setting('application_name'))
+    FROM (SELECT DISTINCT calendar_id FROM changed_rows) AS c;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_time_slots_insert_notify
+    AFTER INSERT ON time_slots
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_calendar_changes();
+
+CREATE TRIGGER trg_time_slots_update_notify
+    AFTER UPDATE ON time_slots
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_calendar_changes();
+
+CREATE TRIGGER trg_time_slots_delete_notify
+    AFTER DELETE ON time_slots
+    REFERENCING OLD TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_calendar_changes();
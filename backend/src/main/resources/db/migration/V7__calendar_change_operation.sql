@@ -0,0 +1,8 @@
+CREATE OR REPLACE FUNCTION notify_calendar_changes() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_notify('calendar_changes',
+                      c.calendar_id::text || ':' || TG_OP || ':' || current_setting('application_name'))
+    FROM (SELECT DISTINCT calendar_id FROM changed_rows) AS c;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
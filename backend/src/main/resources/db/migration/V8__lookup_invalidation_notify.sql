@@ -0,0 +1,27 @@
+CREATE FUNCTION notify_lookup_invalidation() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_notify('lookup_invalidations', TG_TABLE_NAME || ':' || r.id::text)
+    FROM changed_rows AS r;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_users_update_invalidate
+    AFTER UPDATE ON users
+    REFERENCING OLD TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_lookup_invalidation();
+
+CREATE TRIGGER trg_users_delete_invalidate
+    AFTER DELETE ON users
+    REFERENCING OLD TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_lookup_invalidation();
+
+CREATE TRIGGER trg_calendars_update_invalidate
+    AFTER UPDATE ON calendars
+    REFERENCING OLD TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_lookup_invalidation();
+
+CREATE TRIGGER trg_calendars_delete_invalidate
+    AFTER DELETE ON calendars
+    REFERENCING OLD TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_lookup_invalidation();
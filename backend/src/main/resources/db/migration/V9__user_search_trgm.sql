@@ -0,0 +1,7 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_user_username_trgm
+    ON users USING gin (username gin_trgm_ops);
+
+CREATE INDEX idx_user_email_trgm
+    ON users USING gin (email gin_trgm_ops);
@@ -26,5 +26,6 @@ public abstract class AbstractIntegrationTest {
         registry.add("spring.flyway.url", POSTGRES::getJdbcUrl);
         registry.add("spring.flyway.user", POSTGRES::getUsername);
         registry.add("spring.flyway.password", POSTGRES::getPassword);
+        registry.add("scheduler.rate-limit.enabled", () -> "false");
     }
 }
@@ -0,0 +1,295 @@
+package com.doodle.scheduler;
+
+import com.doodle.scheduler.dto.CreateMeetingRequest;
+import com.doodle.scheduler.dto.CreateSlotRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.postgresql.PGConnection;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+class LoadTestIntegrationTest extends AbstractIntegrationTest {
+
+    private static final int USERS = Integer.getInteger("loadtest.users", 10_000);
+    private static final int CALENDARS = Integer.getInteger("loadtest.calendars", 100_000);
+    private static final int SLOTS = Integer.getInteger("loadtest.slots", 10_000_000);
+    private static final int SLOTS_PER_CALENDAR = Math.max(1, SLOTS / CALENDARS);
+    private static final int HOT_SLOTS = Integer.getInteger("loadtest.hot-slots", 20);
+    private static final Duration WARMUP = Duration.ofSeconds(Integer.getInteger("loadtest.warmup-seconds", 15));
+    private static final Duration DURATION = Duration.ofSeconds(Integer.getInteger("loadtest.duration-seconds", 60));
+    private static final double RATE_SCALE = Double.parseDouble(System.getProperty("loadtest.rate-scale", "1.0"));
+    private static final Path REPORT = Path.of(System.getProperty("loadtest.report", "target/load-test-report.json"));
+    private static final int MAX_IN_FLIGHT = 4_096;
+    private static final int COPY_BUFFER_BYTES = 1 << 16;
+    private static final long USER_ID_PREFIX = 0x10AD_0001L;
+    private static final long CALENDAR_ID_PREFIX = 0x10AD_0002L;
+    private static final long SLOT_ID_PREFIX = 0x10AD_0003L;
+    private static final LocalDateTime SEED_START = LocalDate.now(ZoneOffset.UTC)
+            .with(TemporalAdjusters.firstDayOfNextMonth()).atTime(8, 0);
+    private static final LocalDateTime CREATE_START = SEED_START.plusMonths(1);
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void shouldSustainMixedWorkloadAtFixedArrivalRate() throws Exception {
+        seed();
+
+        final var client = WebClient.builder()
+                .baseUrl("http://localhost:" + port)
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(ConnectionProvider.builder("load-test")
+                        .maxConnections(1_000)
+                        .pendingAcquireMaxCount(-1)
+                        .build())))
+                .build();
+        final var workloads = List.of(
+                new Workload("POST /api/v1/calendars/{calendarId}/slots", 200, () -> createSlot(client)),
+                new Workload("POST /api/v1/meetings", 100, () -> bookHotSlot(client)),
+                new Workload("GET /api/v1/users/{userId}/availability", 400, () -> readAvailability(client)),
+                new Workload("GET /api/v1/users/search", 300, () -> searchUsers(client)));
+
+        log.info("Warming up for {}", WARMUP);
+        run(workloads, WARMUP);
+        log.info("Measuring for {}", DURATION);
+        final var results = run(workloads, DURATION);
+
+        final var report = new Report(Instant.now(), DURATION.toSeconds(), new Seed(USERS, CALENDARS,
+                (long) CALENDARS * SLOTS_PER_CALENDAR), results);
+        Files.createDirectories(REPORT.toAbsolutePath().getParent());
+        new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .writerWithDefaultPrettyPrinter()
+                .writeValue(REPORT.toFile(), report);
+        results.forEach(route -> log.info("{}: {} req, {}/s, p50={}ms p99={}ms p999={}ms, errors={}, statuses={}",
+                route.route(), route.requests(), route.throughput(), route.latencyMs().p50(), route.latencyMs().p99(),
+                route.latencyMs().p999(), route.errors(), route.statuses()));
+        log.info("Load test report written to {}", REPORT.toAbsolutePath());
+
+        assertThat(results).allSatisfy(route -> {
+            assertThat(route.requests()).isPositive();
+            assertThat(route.errors()).isZero();
+        });
+        assertThat(results.get(1).statuses().getOrDefault(201, 0L)).isLessThanOrEqualTo(HOT_SLOTS);
+    }
+
+    private static void seed() throws SQLException, IOException {
+        log.info("Seeding {} users, {} calendars, {} slots", USERS, CALENDARS, (long) CALENDARS * SLOTS_PER_CALENDAR);
+        try (var connection = DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())) {
+            try (var statement = connection.createStatement()) {
+                statement.execute("SET session_replication_role = replica");
+            }
+            copy(connection, "COPY users (id, username, email) FROM STDIN", USERS,
+                    i -> userId(i) + "\tload_user_" + i + "\tload_user_" + i + "@load.test\n");
+            copy(connection, "COPY calendars (id, user_id, name) FROM STDIN", CALENDARS,
+                    i -> calendarId(i) + "\t" + userId(i % USERS) + "\tCalendar " + i + "\n");
+            copy(connection, "COPY time_slots (id, calendar_id, start_time, end_time, status) FROM STDIN",
+                    CALENDARS * SLOTS_PER_CALENDAR,
+                    i -> {
+                        final var slot = i % SLOTS_PER_CALENDAR;
+                        final var start = SEED_START.plusMinutes(90L * slot);
+                        return slotId(i) + "\t" + calendarId(i / SLOTS_PER_CALENDAR) + "\t" + start + "\t"
+                                + start.plusHours(1) + "\t" + (slot % 4 == 3 ? "BUSY" : "FREE") + "\n";
+                    });
+            try (var statement = connection.createStatement()) {
+                statement.execute("SET session_replication_role = origin");
+                statement.execute("ANALYZE users");
+                statement.execute("ANALYZE calendars");
+                statement.execute("ANALYZE time_slots");
+            }
+        }
+    }
+
+    private static void copy(@NonNull final Connection connection,
+                             @NonNull final String sql,
+                             final int rows,
+                             @NonNull final IntFunction<String> row) throws SQLException, IOException {
+        final var started = System.nanoTime();
+        final var copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql);
+        final var buffer = new StringBuilder(COPY_BUFFER_BYTES + 256);
+        for (int i = 0; i < rows; i++) {
+            buffer.append(row.apply(i));
+            if (buffer.length() >= COPY_BUFFER_BYTES) {
+                final var bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+                copyIn.writeToCopy(bytes, 0, bytes.length);
+                buffer.setLength(0);
+            }
+        }
+        final var bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        copyIn.endCopy();
+        log.info("Copied {} rows in {}ms: {}", rows, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started), sql);
+    }
+
+    private static List<RouteResult> run(@NonNull final List<Workload> workloads, @NonNull final Duration duration) {
+        final var stats = workloads.stream().map(workload -> new RouteStats()).toList();
+        final var started = System.nanoTime();
+        Flux.range(0, workloads.size())
+                .flatMap(i -> drive(workloads.get(i), stats.get(i), duration), workloads.size())
+                .blockLast(duration.multipliedBy(3));
+        final var elapsedSeconds = (System.nanoTime() - started) / 1e9;
+        return IntStream.range(0, workloads.size())
+                .mapToObj(i -> stats.get(i).toResult(workloads.get(i), elapsedSeconds))
+                .toList();
+    }
+
+    private static Flux<Integer> drive(@NonNull final Workload workload,
+                                       @NonNull final RouteStats stats,
+                                       @NonNull final Duration duration) {
+        final var periodNanos = (long) (1e9 / (workload.ratePerSecond() * RATE_SCALE));
+        final var started = System.nanoTime();
+        return Flux.interval(Duration.ofNanos(periodNanos))
+                .take(duration)
+                .onBackpressureDrop(tick -> stats.dropped.increment())
+                .flatMap(tick -> {
+                    final var intended = started + (tick + 1) * periodNanos;
+                    return workload.request().get()
+                            .doOnNext(status -> stats.record(status, System.nanoTime() - intended))
+                            .onErrorResume(ex -> {
+                                stats.errors.increment();
+                                return Mono.empty();
+                            });
+                }, MAX_IN_FLIGHT);
+    }
+
+    private static Mono<Integer> createSlot(@NonNull final WebClient client) {
+        final var random = ThreadLocalRandom.current();
+        final var start = CREATE_START.plusMinutes(30L * random.nextInt(1_000));
+        return exchange(client.post()
+                .uri("/api/v1/calendars/{calendarId}/slots", calendarId(random.nextInt(CALENDARS)))
+                .bodyValue(new CreateSlotRequest(start, start.plusMinutes(30))));
+    }
+
+    private static Mono<Integer> bookHotSlot(@NonNull final WebClient client) {
+        final var random = ThreadLocalRandom.current();
+        final var organizer = userId(random.nextInt(USERS));
+        final var request = new CreateMeetingRequest(slotId((long) random.nextInt(HOT_SLOTS) * SLOTS_PER_CALENDAR),
+                organizer, "Load test", null, List.of(organizer, userId(random.nextInt(USERS))));
+        return exchange(client.post().uri("/api/v1/meetings").bodyValue(request));
+    }
+
+    private static Mono<Integer> readAvailability(@NonNull final WebClient client) {
+        final var random = ThreadLocalRandom.current();
+        return exchange(client.get()
+                .uri(uriBuilder -> uriBuilder.path("/api/v1/users/{userId}/availability")
+                        .queryParam("from", SEED_START.toString())
+                        .queryParam("to", SEED_START.plusDays(7).toString())
+                        .queryParam("limit", 100)
+                        .build(userId(random.nextInt(USERS)))));
+    }
+
+    private static Mono<Integer> searchUsers(@NonNull final WebClient client) {
+        final var query = "load_user_" + ThreadLocalRandom.current().nextInt(USERS / 10 + 1);
+        return exchange(client.get()
+                .uri(uriBuilder -> uriBuilder.path("/api/v1/users/search").queryParam("q", query).build()));
+    }
+
+    private static Mono<Integer> exchange(@NonNull final WebClient.RequestHeadersSpec<?> request) {
+        return request.exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode().value()));
+    }
+
+    private static UUID userId(final long i) {
+        return new UUID(USER_ID_PREFIX, i);
+    }
+
+    private static UUID calendarId(final long i) {
+        return new UUID(CALENDAR_ID_PREFIX, i);
+    }
+
+    private static UUID slotId(final long i) {
+        return new UUID(SLOT_ID_PREFIX, i);
+    }
+
+    private record Workload(String route, double ratePerSecond, Supplier<Mono<Integer>> request) {
+    }
+
+    private static final class RouteStats {
+
+        private final Histogram latency = new ConcurrentHistogram(TimeUnit.MINUTES.toNanos(1), 3);
+        private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+
+        void record(final int status, final long latencyNanos) {
+            latency.recordValue(Math.min(Math.max(latencyNanos, 0), latency.getHighestTrackableValue()));
+            statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+            if (status >= 500) {
+                errors.increment();
+            }
+        }
+
+        RouteResult toResult(@NonNull final Workload workload, final double elapsedSeconds) {
+            final var counts = new TreeMap<Integer, Long>();
+            statuses.forEach((status, count) -> counts.put(status, count.sum()));
+            final var requests = latency.getTotalCount();
+            return new RouteResult(workload.route(), workload.ratePerSecond() * RATE_SCALE, requests,
+                    Math.round(requests / elapsedSeconds * 10) / 10.0, errors.sum(), dropped.sum(), counts,
+                    new Latency(millis(latency.getValueAtPercentile(50)), millis(latency.getValueAtPercentile(99)),
+                            millis(latency.getValueAtPercentile(99.9)), millis(latency.getMaxValue())));
+        }
+
+        private static double millis(final long nanos) {
+            return Math.round(nanos / 1_000.0) / 1_000.0;
+        }
+    }
+
+    private record Report(Instant finishedAt, long durationSeconds, Seed seed, List<RouteResult> routes) {
+    }
+
+    private record Seed(int users, int calendars, long slots) {
+    }
+
+    private record RouteResult(String route,
+                               double targetRate,
+                               long requests,
+                               double throughput,
+                               long errors,
+                               long dropped,
+                               Map<Integer, Long> statuses,
+                               Latency latencyMs) {
+    }
+
+    private record Latency(double p50, double p99, double p999, double max) {
+    }
+}
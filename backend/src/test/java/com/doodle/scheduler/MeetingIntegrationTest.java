@@ -5,10 +5,15 @@ import com.doodle.scheduler.domain.TimeSlot;
 import com.doodle.scheduler.domain.Calendar;
 import com.doodle.scheduler.domain.User;
 import com.doodle.scheduler.dto.*;
+import com.doodle.scheduler.exception.SlotAlreadyBusyException;
+import com.doodle.scheduler.handler.IdempotentRequests;
+import com.doodle.scheduler.service.MeetingService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.time.Clock;
 import java.time.Instant;
@@ -25,6 +30,9 @@ class MeetingIntegrationTest extends AbstractIntegrationTest {
     @Autowired
     private WebTestClient webTestClient;
 
+    @Autowired
+    private MeetingService meetingService;
+
     @Test
     void shouldScheduleMeetingAndMarkSlotBusy() {
         final var organizer = createUser("organizer", "organizer@test.com");
@@ -124,6 +132,88 @@ class MeetingIntegrationTest extends AbstractIntegrationTest {
                 .expectStatus().isEqualTo(409);
     }
 
+    @Test
+    void shouldLetExactlyOneConcurrentBookingClaimTheSlot() {
+        final var user = createUser("race_user", "race_user@test.com");
+        final var calendar = webTestClient.post().uri("/api/v1/calendars")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateCalendarRequest(user.id(), "Race"))
+                .exchange().expectStatus().isCreated()
+                .expectBody(Calendar.class).returnResult().getResponseBody();
+        assertThat(calendar).isNotNull();
+
+        final var start = LocalDateTime.now(FIXED_CLOCK).plusDays(3).withNano(0);
+        final var slot = webTestClient.post()
+                .uri("/api/v1/calendars/{id}/slots", calendar.id())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateSlotRequest(start, start.plusHours(1)))
+                .exchange().expectStatus().isCreated()
+                .expectBody(TimeSlot.class).returnResult().getResponseBody();
+        assertThat(slot).isNotNull();
+
+        final var outcomes = Flux.range(0, 20)
+                .flatMap(i -> meetingService.schedule(new CreateMeetingRequest(
+                                slot.id(), user.id(), "Race " + i, null, List.of()))
+                        .map(m -> true)
+                        .onErrorResume(SlotAlreadyBusyException.class, e -> Mono.just(false)))
+                .collectList()
+                .block();
+
+        assertThat(outcomes).hasSize(20);
+        assertThat(outcomes).filteredOn(Boolean::booleanValue).hasSize(1);
+    }
+
+    @Test
+    void shouldReplayRetriedBookingWithSameIdempotencyKey() {
+        final var user = createUser("retry_user", "retry_user@test.com");
+        final var calendar = webTestClient.post().uri("/api/v1/calendars")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateCalendarRequest(user.id(), "Retry"))
+                .exchange().expectStatus().isCreated()
+                .expectBody(Calendar.class).returnResult().getResponseBody();
+        assertThat(calendar).isNotNull();
+
+        final var start = LocalDateTime.now(FIXED_CLOCK).plusDays(4).withNano(0);
+        final var slot = webTestClient.post()
+                .uri("/api/v1/calendars/{id}/slots", calendar.id())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateSlotRequest(start, start.plusHours(1)))
+                .exchange().expectStatus().isCreated()
+                .expectBody(TimeSlot.class).returnResult().getResponseBody();
+        assertThat(slot).isNotNull();
+
+        final var meetingRequest = new CreateMeetingRequest(
+                slot.id(), user.id(), "Retried", null, List.of());
+
+        final var first = webTestClient.post().uri("/api/v1/meetings")
+                .header(IdempotentRequests.HEADER_IDEMPOTENCY_KEY, "booking-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(meetingRequest)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectHeader().doesNotExist(IdempotentRequests.HEADER_IDEMPOTENT_REPLAYED)
+                .expectBody(MeetingResponse.class)
+                .returnResult().getResponseBody();
+        assertThat(first).isNotNull();
+
+        webTestClient.post().uri("/api/v1/meetings")
+                .header(IdempotentRequests.HEADER_IDEMPOTENCY_KEY, "booking-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(meetingRequest)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectHeader().valueEquals(IdempotentRequests.HEADER_IDEMPOTENT_REPLAYED, "true")
+                .expectBody(MeetingResponse.class)
+                .value(replayed -> assertThat(replayed.id()).isEqualTo(first.id()));
+
+        webTestClient.post().uri("/api/v1/meetings")
+                .header(IdempotentRequests.HEADER_IDEMPOTENCY_KEY, "booking-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateMeetingRequest(slot.id(), user.id(), "Changed", null, List.of()))
+                .exchange()
+                .expectStatus().isEqualTo(422);
+    }
+
     private User createUser(final String username, final String email) {
         final var user = webTestClient.post().uri("/api/v1/users")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -0,0 +1,115 @@
+package com.doodle.scheduler;
+
+import com.doodle.scheduler.domain.Calendar;
+import com.doodle.scheduler.domain.TimeSlot;
+import com.doodle.scheduler.domain.User;
+import com.doodle.scheduler.dto.CreateCalendarRequest;
+import com.doodle.scheduler.dto.CreateMeetingRequest;
+import com.doodle.scheduler.dto.CreateSlotRequest;
+import com.doodle.scheduler.dto.CreateUserRequest;
+import com.doodle.scheduler.dto.MeetingResponse;
+import io.r2dbc.proxy.ProxyConnectionFactory;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import(MeetingQueryCountIntegrationTest.QueryCountingConfig.class)
+class MeetingQueryCountIntegrationTest extends AbstractIntegrationTest {
+
+    private static final Clock FIXED_CLOCK = Clock.fixed(Instant.parse("2026-02-24T10:00:00Z"), ZoneOffset.UTC);
+    private static final AtomicInteger STATEMENTS = new AtomicInteger();
+    private static final int MEETINGS = 5;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    void shouldLoadOrganizerMeetingsWithParticipantsInOneStatement() {
+        final var organizer = createUser("count_organizer", "count_organizer@test.com");
+        final var first = createUser("count_first", "count_first@test.com");
+        final var second = createUser("count_second", "count_second@test.com");
+
+        final var calendar = webTestClient.post().uri("/api/v1/calendars")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateCalendarRequest(organizer.id(), "Counted"))
+                .exchange().expectStatus().isCreated()
+                .expectBody(Calendar.class).returnResult().getResponseBody();
+        assertThat(calendar).isNotNull();
+
+        final var start = LocalDateTime.now(FIXED_CLOCK).plusDays(10).withNano(0);
+        for (int i = 0; i < MEETINGS; i++) {
+            final var slot = webTestClient.post()
+                    .uri("/api/v1/calendars/{id}/slots", calendar.id())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(new CreateSlotRequest(start.plusHours(i), start.plusHours(i + 1)))
+                    .exchange().expectStatus().isCreated()
+                    .expectBody(TimeSlot.class).returnResult().getResponseBody();
+            assertThat(slot).isNotNull();
+            webTestClient.post().uri("/api/v1/meetings")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(new CreateMeetingRequest(slot.id(), organizer.id(), "Meeting " + i, null,
+                            i == 0 ? List.of() : List.of(first.id(), second.id())))
+                    .exchange().expectStatus().isCreated();
+        }
+
+        STATEMENTS.set(0);
+        webTestClient.get()
+                .uri("/api/v1/users/{userId}/meetings", organizer.id())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(MeetingResponse.class)
+                .value(list -> {
+                    assertThat(list).hasSize(MEETINGS);
+                    assertThat(list.get(0).participantIds()).isEmpty();
+                    assertThat(list.get(1).participantIds()).containsExactlyInAnyOrder(first.id(), second.id());
+                    assertThat(list.get(1).startTime()).isEqualTo(start.plusHours(1));
+                });
+        assertThat(STATEMENTS.get()).isEqualTo(1);
+    }
+
+    private User createUser(final String username, final String email) {
+        final var user = webTestClient.post().uri("/api/v1/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateUserRequest(username, email))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(User.class)
+                .returnResult().getResponseBody();
+        assertThat(user).isNotNull();
+        return user;
+    }
+
+    @TestConfiguration
+    static class QueryCountingConfig {
+
+        @Bean
+        static BeanPostProcessor statementCountingConnectionFactory() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                    if (bean instanceof ConnectionFactory connectionFactory) {
+                        return ProxyConnectionFactory.builder(connectionFactory)
+                                .onBeforeQuery(execution -> STATEMENTS.addAndGet(execution.getQueries().size()))
+                                .build();
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+}
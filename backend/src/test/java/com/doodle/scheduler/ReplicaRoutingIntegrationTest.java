@@ -0,0 +1,119 @@
+package com.doodle.scheduler;
+
+import com.doodle.scheduler.dto.CreateUserRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingIntegrationTest extends AbstractIntegrationTest {
+
+    private static final String METRIC_ROUTED = "db_connections_routed_total";
+    private static final String METRIC_LAG = "replica_lag_seconds";
+    private static final String COOKIE_READ_PRIMARY = "read-primary";
+    private static final String FRONTEND_ORIGIN = "http://localhost:3000";
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @DynamicPropertySource
+    static void replicaProperties(final DynamicPropertyRegistry registry) {
+        registry.add("scheduler.replica.enabled", () -> "true");
+        registry.add("scheduler.replica.url", () ->
+                "r2dbc:postgresql://" + POSTGRES.getHost() + ":" + POSTGRES.getFirstMappedPort() + "/doodle_test");
+        registry.add("scheduler.replica.lag-check-interval", () -> "100ms");
+    }
+
+    @Test
+    void shouldServeReadsFromReplicaUnlessClientJustWrote() throws InterruptedException {
+        awaitReplicaLagKnown();
+
+        final var created = webTestClient.post().uri("/api/v1/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateUserRequest("replica_user", "replica_user@test.com"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectCookie().exists(COOKIE_READ_PRIMARY)
+                .returnResult(Void.class);
+        final var stickyCookie = created.getResponseCookies().getFirst(COOKIE_READ_PRIMARY);
+        assertThat(stickyCookie).isNotNull();
+
+        final var replicaBefore = routed("replica");
+        webTestClient.get().uri("/api/v1/users/search?q=replica_user")
+                .exchange()
+                .expectStatus().isOk();
+        assertThat(routed("replica")).isGreaterThan(replicaBefore);
+
+        final var replicaAfterAnonymousRead = routed("replica");
+        final var primaryBefore = routed("primary");
+        webTestClient.get().uri("/api/v1/users/search?q=replica_user")
+                .header(HttpHeaders.COOKIE, COOKIE_READ_PRIMARY + "=" + stickyCookie.getValue())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].username").isEqualTo("replica_user");
+        assertThat(routed("replica")).isEqualTo(replicaAfterAnonymousRead);
+        assertThat(routed("primary")).isGreaterThan(primaryBefore);
+    }
+
+    @Test
+    void shouldKeepStickyCookieAcrossCorsRequestsFromFrontend() throws InterruptedException {
+        awaitReplicaLagKnown();
+
+        webTestClient.options().uri("/api/v1/users")
+                .header(HttpHeaders.ORIGIN, FRONTEND_ORIGIN)
+                .header(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, "POST")
+                .header(HttpHeaders.ACCESS_CONTROL_REQUEST_HEADERS, HttpHeaders.CONTENT_TYPE)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, FRONTEND_ORIGIN)
+                .expectHeader().valueEquals(HttpHeaders.ACCESS_CONTROL_ALLOW_CREDENTIALS, "true");
+
+        final var created = webTestClient.post().uri("/api/v1/users")
+                .header(HttpHeaders.ORIGIN, FRONTEND_ORIGIN)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateUserRequest("cors_user", "cors_user@test.com"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectHeader().valueEquals(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, FRONTEND_ORIGIN)
+                .expectHeader().valueEquals(HttpHeaders.ACCESS_CONTROL_ALLOW_CREDENTIALS, "true")
+                .expectCookie().exists(COOKIE_READ_PRIMARY)
+                .returnResult(Void.class);
+        final var stickyCookie = created.getResponseCookies().getFirst(COOKIE_READ_PRIMARY);
+        assertThat(stickyCookie).isNotNull();
+
+        final var replicaBefore = routed("replica");
+        final var primaryBefore = routed("primary");
+        webTestClient.get().uri("/api/v1/users/search?q=cors_user")
+                .header(HttpHeaders.ORIGIN, FRONTEND_ORIGIN)
+                .header(HttpHeaders.COOKIE, COOKIE_READ_PRIMARY + "=" + stickyCookie.getValue())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ACCESS_CONTROL_ALLOW_CREDENTIALS, "true")
+                .expectBody()
+                .jsonPath("$[0].username").isEqualTo("cors_user");
+        assertThat(routed("replica")).isEqualTo(replicaBefore);
+        assertThat(routed("primary")).isGreaterThan(primaryBefore);
+    }
+
+    private void awaitReplicaLagKnown() throws InterruptedException {
+        for (int attempt = 0; attempt < 50 && Double.isNaN(meterRegistry.get(METRIC_LAG).gauge().value()); attempt++) {
+            Thread.sleep(100);
+        }
+        assertThat(meterRegistry.get(METRIC_LAG).gauge().value()).isZero();
+    }
+
+    private double routed(final String target) {
+        final var counter = meterRegistry.find(METRIC_ROUTED).tag("target", target).counter();
+        return counter != null ? counter.count() : 0;
+    }
+}
@@ -0,0 +1,105 @@
+package com.doodle.scheduler;
+
+import com.doodle.scheduler.domain.Calendar;
+import com.doodle.scheduler.domain.TimeSlot;
+import com.doodle.scheduler.domain.User;
+import com.doodle.scheduler.dto.CreateCalendarRequest;
+import com.doodle.scheduler.dto.CreateMeetingRequest;
+import com.doodle.scheduler.dto.CreateSlotRequest;
+import com.doodle.scheduler.dto.CreateUserRequest;
+import com.doodle.scheduler.dto.MeetingResponse;
+import com.doodle.scheduler.service.RetentionJob;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RetentionIntegrationTest extends AbstractIntegrationTest {
+
+    private static final LocalDateTime LONG_AGO = LocalDateTime.of(2020, 3, 2, 9, 0);
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private RetentionJob retentionJob;
+
+    @Test
+    void shouldArchiveExpiredMeetingsAndDeleteExpiredFreeSlots() {
+        final var user = webTestClient.post().uri("/api/v1/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateUserRequest("retention_user", "retention_user@test.com"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(User.class)
+                .returnResult().getResponseBody();
+        assertThat(user).isNotNull();
+
+        final var calendar = webTestClient.post().uri("/api/v1/calendars")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateCalendarRequest(user.id(), "Old"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(Calendar.class)
+                .returnResult().getResponseBody();
+        assertThat(calendar).isNotNull();
+
+        final var booked = createSlot(calendar.id(), LONG_AGO);
+        final var free = createSlot(calendar.id(), LONG_AGO.plusHours(1));
+        final var upcoming = createSlot(calendar.id(), LocalDateTime.now().plusDays(1).withNano(0));
+
+        final var meeting = webTestClient.post().uri("/api/v1/meetings")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateMeetingRequest(booked.id(), user.id(), "Retro", null, List.of(user.id())))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(MeetingResponse.class)
+                .returnResult().getResponseBody();
+        assertThat(meeting).isNotNull();
+
+        retentionJob.run().block(Duration.ofSeconds(30));
+
+        assertThat(count("SELECT count(*) FROM meetings WHERE id = :id", meeting.id())).isZero();
+        assertThat(count("SELECT count(*) FROM meetings_archive WHERE id = :id", meeting.id())).isEqualTo(1);
+        assertThat(count("SELECT count(*) FROM meeting_participants_archive WHERE meeting_id = :id", meeting.id()))
+                .isEqualTo(1);
+        assertThat(count("SELECT count(*) FROM time_slots_archive WHERE id = :id", booked.id())).isEqualTo(1);
+        assertThat(count("SELECT count(*) FROM time_slots WHERE id = :id", free.id())).isZero();
+        assertThat(count("SELECT count(*) FROM time_slots_archive WHERE id = :id", free.id())).isZero();
+        assertThat(count("SELECT count(*) FROM time_slots WHERE id = :id", upcoming.id())).isEqualTo(1);
+    }
+
+    private TimeSlot createSlot(final UUID calendarId, final LocalDateTime start) {
+        final var slot = webTestClient.post()
+                .uri("/api/v1/calendars/{id}/slots", calendarId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateSlotRequest(start, start.plusMinutes(30)))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(TimeSlot.class)
+                .returnResult().getResponseBody();
+        assertThat(slot).isNotNull();
+        return slot;
+    }
+
+    private long count(final String sql, final UUID id) {
+        final var result = databaseClient.sql(sql)
+                .bind("id", id)
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .block(Duration.ofSeconds(10));
+        assertThat(result).isNotNull();
+        return result;
+    }
+}
@@ -3,20 +3,42 @@ package com.doodle.scheduler;
 import com.doodle.scheduler.domain.SlotStatus;
 import com.doodle.scheduler.domain.TimeSlot;
 import com.doodle.scheduler.dto.AvailabilityResponse;
+import com.doodle.scheduler.dto.BatchSlotResult;
+import com.doodle.scheduler.dto.CalendarChangeEvent;
 import com.doodle.scheduler.dto.CreateCalendarRequest;
 import com.doodle.scheduler.dto.CreateSlotRequest;
+import com.doodle.scheduler.dto.CreateSlotSeriesRequest;
 import com.doodle.scheduler.dto.CreateUserRequest;
+import com.doodle.scheduler.dto.SlotDelta;
+import com.doodle.scheduler.dto.SlotSeriesResponse;
+import com.doodle.scheduler.dto.UpdateSlotRequest;
 import com.doodle.scheduler.domain.Calendar;
 import com.doodle.scheduler.domain.User;
+import com.doodle.scheduler.exception.SlotOverlapException;
+import com.doodle.scheduler.service.TimeSlotService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.ZoneOffset;
+import java.time.temporal.TemporalAdjusters;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -27,6 +49,9 @@ class SlotIntegrationTest extends AbstractIntegrationTest {
     @Autowired
     private WebTestClient webTestClient;
 
+    @Autowired
+    private TimeSlotService timeSlotService;
+
     @Test
     void shouldCreateSlotAndQueryAvailability() {
         final var user = webTestClient.post().uri("/api/v1/users")
@@ -91,4 +116,362 @@ class SlotIntegrationTest extends AbstractIntegrationTest {
 
         assertThat(now).isBefore(now.plusSeconds(1));
     }
+
+    @Test
+    void shouldAcceptOnlyOneOfManyConcurrentOverlappingCreates() {
+        final var user = webTestClient.post().uri("/api/v1/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateUserRequest("overlap_user", "overlap_user@test.com"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(User.class)
+                .returnResult().getResponseBody();
+        assertThat(user).isNotNull();
+
+        final var calendar = webTestClient.post().uri("/api/v1/calendars")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateCalendarRequest(user.id(), "Contended"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(Calendar.class)
+                .returnResult().getResponseBody();
+        assertThat(calendar).isNotNull();
+
+        final var start = LocalDateTime.now(FIXED_CLOCK).plusDays(5).withNano(0);
+        final var attempts = 300;
+
+        final var created = Flux.range(0, attempts)
+                .flatMap(i -> timeSlotService.create(calendar.id(),
+                                new CreateSlotRequest(start.plusMinutes(i % 30), start.plusMinutes(60 + i % 30)))
+                        .map(slot -> 1)
+                        .onErrorResume(SlotOverlapException.class, e -> Mono.just(0)), attempts)
+                .reduce(0, Integer::sum)
+                .block();
+
+        assertThat(created).isEqualTo(1);
+        StepVerifier.create(timeSlotService.findByCalendar(calendar.id(), null, null, null, null, null))
+                .expectNextMatches(page -> page.items().size() == 1 && page.nextCursor() == null)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldRejectConcurrentOverlapsAcrossMonthPartitions() {
+        final var user = webTestClient.post().uri("/api/v1/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateUserRequest("boundary_user", "boundary_user@test.com"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(User.class)
+                .returnResult().getResponseBody();
+        assertThat(user).isNotNull();
+
+        final var calendar = webTestClient.post().uri("/api/v1/calendars")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateCalendarRequest(user.id(), "Month end"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(Calendar.class)
+                .returnResult().getResponseBody();
+        assertThat(calendar).isNotNull();
+
+        final var monthStart = LocalDateTime.now(FIXED_CLOCK).plusMonths(1).withDayOfMonth(1).toLocalDate().atStartOfDay();
+        final var attempts = 100;
+
+        final var created = Flux.range(0, attempts)
+                .flatMap(i -> timeSlotService.create(calendar.id(), i % 2 == 0
+                                ? new CreateSlotRequest(monthStart.minusMinutes(30 + i), monthStart.plusMinutes(30))
+                                : new CreateSlotRequest(monthStart.plusMinutes(i % 30), monthStart.plusMinutes(60)))
+                        .map(slot -> 1)
+                        .onErrorResume(SlotOverlapException.class, e -> Mono.just(0)), attempts)
+                .reduce(0, Integer::sum)
+                .block();
+
+        assertThat(created).isEqualTo(1);
+        StepVerifier.create(timeSlotService.findByCalendar(calendar.id(), null, null, null, null, null))
+                .expectNextMatches(page -> page.items().size() == 1)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldCreateSlotsInBatchAndReportConflicts() {
+        final var user = webTestClient.post().uri("/api/v1/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateUserRequest("batch_user", "batch_user@test.com"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(User.class)
+                .returnResult().getResponseBody();
+        assertThat(user).isNotNull();
+
+        final var calendar = webTestClient.post().uri("/api/v1/calendars")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateCalendarRequest(user.id(), "Batch"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(Calendar.class)
+                .returnResult().getResponseBody();
+        assertThat(calendar).isNotNull();
+
+        final var start = LocalDateTime.now(FIXED_CLOCK).plusDays(6).withNano(0);
+        webTestClient.post()
+                .uri("/api/v1/calendars/{id}/slots", calendar.id())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateSlotRequest(start.plusHours(3), start.plusHours(4)))
+                .exchange()
+                .expectStatus().isCreated();
+
+        webTestClient.post()
+                .uri("/api/v1/calendars/{id}/slots:batch", calendar.id())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(
+                        new CreateSlotRequest(start, start.plusHours(1)),
+                        new CreateSlotRequest(start.plusHours(1).plusNanos(1), start.plusHours(2)),
+                        new CreateSlotRequest(start.plusMinutes(90), start.plusMinutes(150)),
+                        new CreateSlotRequest(start.plusHours(3), start.plusHours(4))))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(BatchSlotResult.class)
+                .value(results -> {
+                    assertThat(results).extracting(BatchSlotResult::outcome).containsExactly(
+                            BatchSlotResult.Outcome.CREATED,
+                            BatchSlotResult.Outcome.CREATED,
+                            BatchSlotResult.Outcome.CONFLICT,
+                            BatchSlotResult.Outcome.CONFLICT);
+                    assertThat(results.get(0).slot().startTime()).isEqualTo(start);
+                    assertThat(results.get(1).slot().startTime()).isEqualTo(start.plusHours(1));
+                });
+
+        webTestClient.get()
+                .uri("/api/v1/calendars/{id}/slots", calendar.id())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(TimeSlot.class)
+                .hasSize(3);
+    }
+
+    @Test
+    void shouldPushSlotChangesToSubscribers() {
+        final var user = webTestClient.post().uri("/api/v1/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateUserRequest("feed_user", "feed_user@test.com"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(User.class)
+                .returnResult().getResponseBody();
+        assertThat(user).isNotNull();
+
+        final var calendar = webTestClient.post().uri("/api/v1/calendars")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateCalendarRequest(user.id(), "Watched"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(Calendar.class)
+                .returnResult().getResponseBody();
+        assertThat(calendar).isNotNull();
+
+        final var events = webTestClient.get()
+                .uri("/api/v1/calendars/{id}/slots/changes", calendar.id())
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(CalendarChangeEvent.class)
+                .getResponseBody();
+
+        final var start = LocalDateTime.now(FIXED_CLOCK).plusDays(7).withNano(0);
+        final var writes = Flux.interval(Duration.ofMillis(200))
+                .concatMap(i -> timeSlotService.create(calendar.id(),
+                        new CreateSlotRequest(start.plusHours(i), start.plusHours(i + 1))))
+                .subscribe();
+        try {
+            StepVerifier.create(events.filter(Objects::nonNull).take(1))
+                    .expectNext(new CalendarChangeEvent(calendar.id(), CalendarChangeEvent.Operation.INSERT))
+                    .expectComplete()
+                    .verify(Duration.ofSeconds(10));
+        } finally {
+            writes.dispose();
+        }
+    }
+
+    @Test
+    void shouldAnswerUnchangedSlotListWithNotModifiedUntilNextWrite() {
+        final var user = webTestClient.post().uri("/api/v1/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateUserRequest("etag_user", "etag_user@test.com"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(User.class)
+                .returnResult().getResponseBody();
+        assertThat(user).isNotNull();
+
+        final var calendar = webTestClient.post().uri("/api/v1/calendars")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateCalendarRequest(user.id(), "Polled"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(Calendar.class)
+                .returnResult().getResponseBody();
+        assertThat(calendar).isNotNull();
+
+        final var start = LocalDateTime.now(FIXED_CLOCK).plusDays(8).withNano(0);
+        webTestClient.post()
+                .uri("/api/v1/calendars/{id}/slots", calendar.id())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateSlotRequest(start, start.plusHours(1)))
+                .exchange()
+                .expectStatus().isCreated();
+
+        final var eTag = webTestClient.get()
+                .uri("/api/v1/calendars/{id}/slots", calendar.id())
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(TimeSlot.class)
+                .getResponseHeaders().getETag();
+        assertThat(eTag).isNotNull();
+
+        webTestClient.get()
+                .uri("/api/v1/calendars/{id}/slots", calendar.id())
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, eTag);
+
+        webTestClient.post()
+                .uri("/api/v1/calendars/{id}/slots", calendar.id())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateSlotRequest(start.plusHours(2), start.plusHours(3)))
+                .exchange()
+                .expectStatus().isCreated();
+
+        webTestClient.get()
+                .uri("/api/v1/calendars/{id}/slots", calendar.id())
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().value(HttpHeaders.ETAG, current -> assertThat(current).isNotEqualTo(eTag))
+                .expectBodyList(TimeSlot.class)
+                .hasSize(2);
+    }
+
+    @Test
+    void shouldSyncOnlySlotsChangedOrDeletedSinceLastDelta() {
+        final var user = webTestClient.post().uri("/api/v1/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateUserRequest("delta_user", "delta_user@test.com"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(User.class)
+                .returnResult().getResponseBody();
+        assertThat(user).isNotNull();
+
+        final var calendar = webTestClient.post().uri("/api/v1/calendars")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateCalendarRequest(user.id(), "Synced"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(Calendar.class)
+                .returnResult().getResponseBody();
+        assertThat(calendar).isNotNull();
+
+        final var start = LocalDateTime.now(FIXED_CLOCK).plusDays(9).withNano(0);
+        final var kept = createSlot(calendar.id(), start, start.plusHours(1));
+        final var removed = createSlot(calendar.id(), start.plusHours(2), start.plusHours(3));
+        createSlot(calendar.id(), start.plusHours(4), start.plusHours(5));
+
+        final var full = delta(calendar.id(), null);
+        assertThat(full.upserted()).hasSize(3);
+        assertThat(full.deleted()).isEmpty();
+
+        webTestClient.put()
+                .uri("/api/v1/slots/{id}", kept.id())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new UpdateSlotRequest(null, null, SlotStatus.BUSY))
+                .exchange()
+                .expectStatus().isOk();
+        webTestClient.delete()
+                .uri("/api/v1/slots/{id}", removed.id())
+                .exchange()
+                .expectStatus().isNoContent();
+
+        final var changes = delta(calendar.id(), full.token());
+        assertThat(changes.upserted()).extracting(TimeSlot::id).containsExactly(kept.id());
+        assertThat(changes.upserted().get(0).status()).isEqualTo(SlotStatus.BUSY);
+        assertThat(changes.deleted()).containsExactly(removed.id());
+
+        final var unchanged = delta(calendar.id(), changes.token());
+        assertThat(unchanged.upserted()).isEmpty();
+        assertThat(unchanged.deleted()).isEmpty();
+        assertThat(unchanged.token()).isEqualTo(changes.token());
+    }
+
+    @Test
+    void shouldSkipSeriesOccurrencesThatOverlapExistingSlots() {
+        final var user = webTestClient.post().uri("/api/v1/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateUserRequest("series_user", "series_user@test.com"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(User.class)
+                .returnResult().getResponseBody();
+        assertThat(user).isNotNull();
+
+        final var calendar = webTestClient.post().uri("/api/v1/calendars")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateCalendarRequest(user.id(), "Recurring"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(Calendar.class)
+                .returnResult().getResponseBody();
+        assertThat(calendar).isNotNull();
+
+        final var monday = LocalDate.now(FIXED_CLOCK).plusDays(14).with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+        final var existing = createSlot(calendar.id(), monday.atTime(10, 15), monday.atTime(10, 45));
+
+        final var series = webTestClient.post()
+                .uri("/api/v1/calendars/{id}/series", calendar.id())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateSlotSeriesRequest(EnumSet.of(DayOfWeek.MONDAY),
+                        LocalTime.of(9, 0), LocalTime.of(12, 0), 30, monday, monday))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(SlotSeriesResponse.class)
+                .returnResult().getResponseBody();
+        assertThat(series).isNotNull();
+        assertThat(series.slotsCreated()).isEqualTo(4);
+
+        webTestClient.get()
+                .uri("/api/v1/calendars/{id}/slots", calendar.id())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(TimeSlot.class)
+                .value(slots -> assertThat(slots)
+                        .extracting(TimeSlot::startTime)
+                        .containsExactly(monday.atTime(9, 0), monday.atTime(9, 30), existing.startTime(),
+                                monday.atTime(11, 0), monday.atTime(11, 30)));
+    }
+
+    private TimeSlot createSlot(final UUID calendarId, final LocalDateTime start, final LocalDateTime end) {
+        final var slot = webTestClient.post()
+                .uri("/api/v1/calendars/{id}/slots", calendarId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateSlotRequest(start, end))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(TimeSlot.class)
+                .returnResult().getResponseBody();
+        assertThat(slot).isNotNull();
+        return slot;
+    }
+
+    private SlotDelta delta(final UUID calendarId, final String since) {
+        final var delta = webTestClient.get()
+                .uri(builder -> builder.path("/api/v1/calendars/{id}/slots/delta")
+                        .queryParamIfPresent("since", Optional.ofNullable(since))
+                        .build(calendarId))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(SlotDelta.class)
+                .returnResult().getResponseBody();
+        assertThat(delta).isNotNull();
+        return delta;
+    }
 }
@@ -0,0 +1,92 @@
+package com.doodle.scheduler;
+
+import com.doodle.scheduler.domain.Calendar;
+import com.doodle.scheduler.domain.TimeSlot;
+import com.doodle.scheduler.domain.User;
+import com.doodle.scheduler.dto.CreateCalendarRequest;
+import com.doodle.scheduler.dto.CreateUserRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlotStreamingIntegrationTest extends AbstractIntegrationTest {
+
+    private static final int SLOT_COUNT = 1_000_000;
+    private static final int SAMPLE_EVERY = 100_000;
+    private static final long MAX_HEAP_GROWTH_BYTES = 64L * 1024 * 1024;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void shouldStreamMillionSlotsWithFlatMemory() {
+        final var user = webTestClient.post().uri("/api/v1/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateUserRequest("stream_user", "stream_user@test.com"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(User.class)
+                .returnResult().getResponseBody();
+        assertThat(user).isNotNull();
+
+        final var calendar = webTestClient.post().uri("/api/v1/calendars")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CreateCalendarRequest(user.id(), "Huge"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(Calendar.class)
+                .returnResult().getResponseBody();
+        assertThat(calendar).isNotNull();
+
+        databaseClient.sql("""
+                        INSERT INTO time_slots (calendar_id, start_time, end_time, status)
+                        SELECT :calendarId, t, t + INTERVAL '1 minute', 'FREE'
+                        FROM generate_series(TIMESTAMP '2030-01-01 00:00', TIMESTAMP '2030-01-01 00:00'
+                                             + (:count - 1) * INTERVAL '1 minute', INTERVAL '1 minute') AS t
+                        """)
+                .bind("calendarId", calendar.id())
+                .bind("count", SLOT_COUNT)
+                .fetch().rowsUpdated()
+                .block(Duration.ofMinutes(5));
+
+        final var baseline = usedHeapAfterGc();
+        final var peakGrowth = new AtomicLong();
+        final var received = WebClient.create("http://localhost:" + port)
+                .get().uri("/api/v1/calendars/{id}/slots", calendar.id())
+                .accept(MediaType.APPLICATION_NDJSON)
+                .retrieve()
+                .bodyToFlux(TimeSlot.class)
+                .index()
+                .doOnNext(indexed -> {
+                    if (indexed.getT1() % SAMPLE_EVERY == 0) {
+                        peakGrowth.accumulateAndGet(usedHeapAfterGc() - baseline, Math::max);
+                    }
+                })
+                .count()
+                .block(Duration.ofMinutes(5));
+
+        assertThat(received).isEqualTo(SLOT_COUNT);
+        assertThat(peakGrowth.get()).isLessThan(MAX_HEAP_GROWTH_BYTES);
+    }
+
+    private static long usedHeapAfterGc() {
+        final var runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,77 @@
+package com.doodle.scheduler;
+
+import com.doodle.scheduler.repository.UserRepository;
+import com.doodle.scheduler.service.CalendarChangeListener;
+import com.doodle.scheduler.service.UserPrefixIndex;
+import com.doodle.scheduler.service.UserService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class UserSearchBenchmarkIntegrationTest extends AbstractIntegrationTest {
+
+    private static final int USER_COUNT = 1_000_000;
+    private static final int ITERATIONS = 200;
+    private static final List<String> QUERIES = List.of("bench_user_4242", "user_9991", "0017@", "bench_user_12345@", "xyz_missing");
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CalendarChangeListener changeListener;
+
+    @Test
+    void shouldSearchMillionUsersQuickly() {
+        databaseClient.sql("""
+                        INSERT INTO users (username, email)
+                        SELECT 'bench_user_' || n, 'bench_user_' || n || '@bench.test'
+                        FROM generate_series(1, :count) AS n
+                        """)
+                .bind("count", USER_COUNT)
+                .fetch().rowsUpdated()
+                .block(Duration.ofMinutes(10));
+        databaseClient.sql("ANALYZE users").fetch().rowsUpdated().block();
+
+        final var trigramP95 = p95(query -> userService.search(query).collectList().block());
+        log.info("Trigram search over {} users: p95={}us", USER_COUNT, trigramP95 / 1_000);
+
+        final var prefixIndex = new UserPrefixIndex(userRepository, changeListener, true, Duration.ofHours(1));
+        prefixIndex.rebuild().block(Duration.ofMinutes(5));
+        final var prefixP95 = p95(query -> prefixIndex.search(query, 10));
+        log.info("Prefix index search over {} users: p95={}us", USER_COUNT, prefixP95 / 1_000);
+
+        assertThat(prefixIndex.search("bench_user_4242", 10)).isNotEmpty();
+        assertThat(trigramP95).isLessThan(Duration.ofMillis(100).toNanos());
+        assertThat(prefixP95).isLessThan(Duration.ofMillis(1).toNanos());
+    }
+
+    private static long p95(final Consumer<String> search) {
+        QUERIES.forEach(search);
+        final var samples = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            final var query = QUERIES.get(i % QUERIES.size());
+            final var started = System.nanoTime();
+            search.accept(query);
+            samples[i] = System.nanoTime() - started;
+        }
+        Arrays.sort(samples);
+        return samples[(int) (ITERATIONS * 0.95) - 1];
+    }
+}
@@ -0,0 +1,108 @@
+package com.doodle.scheduler.config;
+
+import com.doodle.scheduler.domain.User;
+import com.doodle.scheduler.repository.UserRepository;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.framework.ProxyFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class QueryObservationInterceptorTest {
+
+    @Mock private UserRepository userRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private UserRepository observed;
+
+    @BeforeEach
+    void setUp() {
+        final var observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+        final var proxyFactory = new ProxyFactory(userRepository);
+        proxyFactory.addInterface(UserRepository.class);
+        proxyFactory.addAdvice(new QueryObservationInterceptor(() -> observationRegistry, "UserRepository", Duration.ofSeconds(1)));
+        observed = (UserRepository) proxyFactory.getProxy();
+    }
+
+    @Test
+    void shouldTimeQueriesOnSubscriptionWithRepositoryAndQueryTags() {
+        when(userRepository.count()).thenReturn(Mono.just(3L));
+
+        final var count = observed.count();
+        assertThat(meterRegistry.find(QueryObservationInterceptor.OBSERVATION_NAME).timer()).isNull();
+
+        StepVerifier.create(count).expectNext(3L).verifyComplete();
+        StepVerifier.create(count).expectNext(3L).verifyComplete();
+
+        final var timer = meterRegistry.get(QueryObservationInterceptor.OBSERVATION_NAME)
+                .tag(QueryObservationInterceptor.KEY_REPOSITORY, "UserRepository")
+                .tag(QueryObservationInterceptor.KEY_QUERY, "count")
+                .tag("error", "none")
+                .timer();
+        assertThat(timer.count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldStopTimingFluxQueriesAtFirstRow() {
+        when(userRepository.findAll()).thenReturn(Flux.just(user(), user()));
+
+        StepVerifier.create(observed.findAll(), 1)
+                .expectNextCount(1)
+                .then(() -> assertThat(timer("findAll").count()).isEqualTo(1))
+                .thenRequest(1)
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertThat(timer("findAll").count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldTimeEmptyFluxQueriesToCompletion() {
+        when(userRepository.findAll()).thenReturn(Flux.empty());
+
+        StepVerifier.create(observed.findAll()).verifyComplete();
+
+        assertThat(timer("findAll").count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldTagFailedQueriesWithError() {
+        when(userRepository.findAll()).thenReturn(Flux.error(new IllegalStateException("boom")));
+
+        StepVerifier.create(observed.findAll()).verifyError(IllegalStateException.class);
+
+        final var timer = meterRegistry.get(QueryObservationInterceptor.OBSERVATION_NAME)
+                .tag(QueryObservationInterceptor.KEY_QUERY, "findAll")
+                .tag("error", "IllegalStateException")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    private Timer timer(final String query) {
+        return meterRegistry.get(QueryObservationInterceptor.OBSERVATION_NAME)
+                .tag(QueryObservationInterceptor.KEY_QUERY, query)
+                .tag("error", "none")
+                .timer();
+    }
+
+    private static User user() {
+        return User.builder().id(UUID.randomUUID()).username("alice").email("alice@example.com").build();
+    }
+}
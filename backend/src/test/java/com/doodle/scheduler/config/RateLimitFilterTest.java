@@ -0,0 +1,133 @@
+package com.doodle.scheduler.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private static final String CLIENT_HEADER = "X-Client-Id";
+    private static final String CLIENT_A = "203.0.113.1";
+    private static final String CLIENT_B = "203.0.113.2";
+    private static final String PROXY = "10.0.0.1";
+    private static final String SLOTS = "/api/v1/calendars/c1/slots";
+    private static final String AVAILABILITY = "/api/v1/users/u1/availability";
+    private static final WebFilterChain PASS = exchange -> Mono.empty();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void shouldRejectOnceBurstIsSpentAndRefillOverTime() {
+        final var filter = filter(10);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(status(filter, get(SLOTS, CLIENT_A))).isNull();
+        }
+        final var rejected = get(SLOTS, CLIENT_A);
+        assertThat(status(filter, rejected)).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(rejected.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+
+        now.addAndGet(Duration.ofMillis(500).toNanos());
+        assertThat(status(filter, get(SLOTS, CLIENT_A))).isNull();
+        assertThat(meterRegistry.counter(RateLimitFilter.METRIC_REJECTIONS, "reason", RateLimitFilter.REASON_CLIENT).count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldChargeRouteCostAgainstClientBucketOnly() {
+        final var filter = filter(10);
+
+        assertThat(status(filter, get(AVAILABILITY, CLIENT_A))).isNull();
+        assertThat(status(filter, get(AVAILABILITY, CLIENT_A))).isNull();
+        assertThat(status(filter, get(AVAILABILITY, CLIENT_A))).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(status(filter, get(AVAILABILITY, CLIENT_B))).isNull();
+        assertThat(meterRegistry.get(RateLimitFilter.METRIC_CLIENTS).gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    void shouldNotLetUntrustedClientsEscapeTheirBucketByRotatingClientHeader() {
+        final var filter = filter(10);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(status(filter, get(SLOTS, CLIENT_A, "client-" + i))).isNull();
+        }
+        assertThat(status(filter, get(SLOTS, CLIENT_A, "client-fresh"))).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(meterRegistry.get(RateLimitFilter.METRIC_CLIENTS).gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldKeyOnClientHeaderOnlyFromTrustedProxies() {
+        final var filter = filter(10);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(status(filter, get(SLOTS, PROXY, "alice"))).isNull();
+        }
+        assertThat(status(filter, get(SLOTS, PROXY, "alice"))).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(status(filter, get(SLOTS, PROXY, "bob"))).isNull();
+    }
+
+    @Test
+    void shouldShedLoadWhenTooManyRequestsAreInFlight() {
+        final var filter = filter(1);
+        final var running = filter.filter(get(SLOTS, CLIENT_A), exchange -> Mono.never()).subscribe();
+
+        final var shed = get(SLOTS, CLIENT_B);
+        assertThat(status(filter, shed)).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(meterRegistry.get(RateLimitFilter.METRIC_IN_FLIGHT).gauge().value()).isEqualTo(1.0);
+
+        running.dispose();
+        assertThat(meterRegistry.get(RateLimitFilter.METRIC_IN_FLIGHT).gauge().value()).isZero();
+        assertThat(status(filter, get(SLOTS, CLIENT_B))).isNull();
+        assertThat(meterRegistry.counter(RateLimitFilter.METRIC_REJECTIONS, "reason", RateLimitFilter.REASON_OVERLOAD).count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldIgnoreNonApiPaths() {
+        final var filter = filter(10);
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(status(filter, MockServerWebExchange.from(MockServerHttpRequest.get("/actuator/prometheus")))).isNull();
+        }
+    }
+
+    private RateLimitFilter filter(final int maxInFlight) {
+        return new RateLimitFilter(
+                Map.of(PathPatternParser.defaultInstance.parse("/api/v1/users/*/availability"), 5),
+                List.of(), CLIENT_HEADER, Set.of(PROXY), 2, 10, maxInFlight, Duration.ofSeconds(1), 100, Duration.ofMinutes(1),
+                meterRegistry, now::get);
+    }
+
+    private static MockServerWebExchange get(final String path, final String address) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(path)
+                .remoteAddress(new InetSocketAddress(address, 443)));
+    }
+
+    private static MockServerWebExchange get(final String path, final String address, final String client) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(path)
+                .remoteAddress(new InetSocketAddress(address, 443))
+                .header(CLIENT_HEADER, client));
+    }
+
+    private static HttpStatus status(final RateLimitFilter filter, final MockServerWebExchange exchange) {
+        StepVerifier.create(filter.filter(exchange, PASS)).verifyComplete();
+        return (HttpStatus) exchange.getResponse().getStatusCode();
+    }
+}
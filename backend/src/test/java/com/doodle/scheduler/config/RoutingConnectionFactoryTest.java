@@ -0,0 +1,74 @@
+package com.doodle.scheduler.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RoutingConnectionFactoryTest {
+
+    @Mock private ConnectionFactory primary;
+    @Mock private ConnectionFactory replica;
+    @Mock private Connection primaryConnection;
+    @Mock private Connection replicaConnection;
+    @Mock private ReplicaLagMonitor lagMonitor;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private RoutingConnectionFactory routing;
+
+    @BeforeEach
+    void setUp() {
+        lenient().doReturn(Mono.just(primaryConnection)).when(primary).create();
+        lenient().doReturn(Mono.just(replicaConnection)).when(replica).create();
+        routing = new RoutingConnectionFactory(primary, replica, lagMonitor, meterRegistry);
+        routing.afterPropertiesSet();
+    }
+
+    @Test
+    void shouldRouteUnmarkedWorkToPrimary() {
+        StepVerifier.create(routing.create()).expectNext(primaryConnection).verifyComplete();
+    }
+
+    @Test
+    void shouldRouteReadOnlyWorkToReplica() {
+        when(lagMonitor.isReplicaUsable()).thenReturn(true);
+
+        StepVerifier.create(ReplicaRouting.readOnly(Mono.from(routing.create())))
+                .expectNext(replicaConnection)
+                .verifyComplete();
+
+        assertThat(meterRegistry.counter(RoutingConnectionFactory.METRIC_ROUTED, "target", "replica").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldKeepReadsPinnedAfterOwnWriteOnPrimary() {
+        StepVerifier.create(ReplicaRouting.readOnly(Mono.from(routing.create()))
+                        .contextWrite(ReplicaRouting::pinToPrimary))
+                .expectNext(primaryConnection)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldFallBackToPrimaryWhenReplicaLags() {
+        when(lagMonitor.isReplicaUsable()).thenReturn(false);
+
+        StepVerifier.create(ReplicaRouting.readOnly(Mono.from(routing.create())))
+                .expectNext(primaryConnection)
+                .verifyComplete();
+
+        assertThat(meterRegistry.counter(RoutingConnectionFactory.METRIC_REPLICA_FALLBACKS).count()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,72 @@
+package com.doodle.scheduler.service;
+
+import com.doodle.scheduler.domain.SlotStatus;
+import com.doodle.scheduler.domain.TimeSlot;
+import com.doodle.scheduler.dto.AvailabilityBlock;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AvailabilityCoalescerTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2026, 3, 2, 0, 0);
+
+    private final UUID calendarId = UUID.randomUUID();
+
+    @Test
+    void shouldMergeTouchingAndOverlappingSlotsOfSameStatus() {
+        final var first = slot(9, 0, 9, 15, SlotStatus.FREE);
+        final var second = slot(9, 15, 9, 30, SlotStatus.FREE);
+        final var otherCalendar = slot(9, 20, 10, 0, SlotStatus.FREE);
+        final var later = slot(11, 0, 11, 15, SlotStatus.FREE);
+
+        final var blocks = coalesce(true, first, second, otherCalendar, later);
+
+        assertThat(blocks).containsExactly(
+                new AvailabilityBlock(at(9, 0), at(10, 0), SlotStatus.FREE, 3,
+                        List.of(first.id(), second.id(), otherCalendar.id())),
+                new AvailabilityBlock(at(11, 0), at(11, 15), SlotStatus.FREE, 1, List.of(later.id())));
+    }
+
+    @Test
+    void shouldKeepStatusesApartAndOmitSlotIdsUnlessRequested() {
+        final var blocks = coalesce(false,
+                slot(9, 0, 10, 0, SlotStatus.FREE),
+                slot(10, 0, 11, 0, SlotStatus.BUSY),
+                slot(11, 0, 12, 0, SlotStatus.FREE),
+                slot(11, 0, 12, 0, SlotStatus.BUSY));
+
+        assertThat(blocks).containsExactly(
+                new AvailabilityBlock(at(9, 0), at(10, 0), SlotStatus.FREE, 1, null),
+                new AvailabilityBlock(at(10, 0), at(12, 0), SlotStatus.BUSY, 2, null),
+                new AvailabilityBlock(at(11, 0), at(12, 0), SlotStatus.FREE, 1, null));
+    }
+
+    private static List<AvailabilityBlock> coalesce(final boolean includeSlotIds, final TimeSlot... slots) {
+        final var coalescer = new AvailabilityCoalescer(includeSlotIds);
+        final var blocks = new ArrayList<AvailabilityBlock>();
+        for (final var slot : slots) {
+            blocks.add(coalescer.accept(slot));
+        }
+        blocks.addAll(coalescer.finish());
+        return blocks.stream().filter(Objects::nonNull).toList();
+    }
+
+    private TimeSlot slot(final int startHour, final int startMinute,
+                          final int endHour, final int endMinute,
+                          final SlotStatus status) {
+        return TimeSlot.builder()
+                .id(UUID.randomUUID()).calendarId(calendarId)
+                .startTime(at(startHour, startMinute)).endTime(at(endHour, endMinute)).status(status).build();
+    }
+
+    private static LocalDateTime at(final int hour, final int minute) {
+        return DAY.withHour(hour).withMinute(minute);
+    }
+}
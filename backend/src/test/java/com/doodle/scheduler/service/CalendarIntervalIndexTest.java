@@ -0,0 +1,153 @@
+package com.doodle.scheduler.service;
+
+import com.doodle.scheduler.domain.SlotStatus;
+import com.doodle.scheduler.domain.TimeSlot;
+import com.doodle.scheduler.dto.CalendarChangeEvent;
+import com.doodle.scheduler.repository.TimeSlotRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CalendarIntervalIndexTest {
+
+    private static final Clock FIXED_CLOCK = Clock.fixed(Instant.parse("2026-02-24T10:00:00Z"), ZoneOffset.UTC);
+    private static final LocalDateTime NOW = LocalDateTime.now(FIXED_CLOCK);
+    private static final LocalDateTime DAY = LocalDateTime.of(2026, 3, 2, 0, 0);
+
+    @Mock private TimeSlotRepository timeSlotRepository;
+    @Mock private CalendarChangeListener changeListener;
+
+    private final Sinks.Many<CalendarChangeListener.Change> changes = Sinks.many().multicast().directBestEffort();
+    private final UUID calendarId = UUID.randomUUID();
+    private CalendarIntervalIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(changeListener.changes()).thenReturn(changes.asFlux());
+        index = new CalendarIntervalIndex(timeSlotRepository, changeListener, new SimpleMeterRegistry(),
+                FIXED_CLOCK, 2, 3, Duration.ofMinutes(1), 2);
+        index.subscribe();
+    }
+
+    @Test
+    void shouldAnswerOverlapsFromLoadedIntervals() {
+        stubSlots(calendarId, slot(9, 10), slot(11, 12));
+
+        assertThat(index.overlaps(calendarId, at(9), at(10))).isFalse();
+
+        assertThat(index.overlaps(calendarId, at(9), at(10))).isTrue();
+        assertThat(index.overlaps(calendarId, at(10), at(11))).isFalse();
+        assertThat(index.overlaps(calendarId, DAY.withHour(11).withMinute(59), at(13))).isTrue();
+        assertThat(index.overlaps(calendarId, at(12), at(13))).isFalse();
+        verify(timeSlotRepository, times(1)).findByCalendarIdWithFilters(eq(calendarId), isNull(), eq(NOW), isNull(), isNull(), isNull(), eq(4));
+    }
+
+    @Test
+    void shouldIncludeRecordedSlotsAndDropInvalidatedCalendars() {
+        stubSlots(calendarId, slot(9, 10));
+        index.overlaps(calendarId, at(9), at(10));
+
+        index.recordCreated(calendarId, List.of(slot(14, 15), slot(12, 13)));
+        assertThat(index.overlaps(calendarId, at(12), at(15))).isTrue();
+        assertThat(index.overlaps(calendarId, at(13), at(14))).isFalse();
+
+        changes.tryEmitNext(new CalendarChangeListener.Change(calendarId, CalendarChangeEvent.Operation.INSERT, true));
+        assertThat(index.size()).isEqualTo(1);
+
+        changes.tryEmitNext(new CalendarChangeListener.Change(calendarId, CalendarChangeEvent.Operation.DELETE, false));
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void shouldDropEveryCalendarOnInvalidateAll() {
+        final var second = UUID.randomUUID();
+        stubSlots(calendarId, slot(9, 10));
+        stubSlots(second, slot(11, 12));
+        index.overlaps(calendarId, at(9), at(10));
+        index.overlaps(second, at(11), at(12));
+        assertThat(index.size()).isEqualTo(2);
+
+        index.invalidateAll();
+
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedCalendar() {
+        final var second = UUID.randomUUID();
+        final var third = UUID.randomUUID();
+        when(timeSlotRepository.findByCalendarIdWithFilters(any(), isNull(), eq(NOW), isNull(), isNull(), isNull(), eq(4)))
+                .thenReturn(Flux.just(slot(9, 10)));
+
+        index.overlaps(calendarId, at(9), at(10));
+        index.overlaps(second, at(9), at(10));
+        index.overlaps(calendarId, at(9), at(10));
+        index.overlaps(third, at(9), at(10));
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.overlaps(calendarId, at(9), at(10))).isTrue();
+        assertThat(index.overlaps(second, at(9), at(10))).isFalse();
+    }
+
+    @Test
+    void shouldNotIndexCalendarsAboveSlotLimit() {
+        stubSlots(calendarId, slot(8, 9), slot(9, 10), slot(10, 11), slot(11, 12));
+
+        index.overlaps(calendarId, at(9), at(10));
+
+        assertThat(index.overlaps(calendarId, at(9), at(10))).isFalse();
+        verify(timeSlotRepository, times(1)).findByCalendarIdWithFilters(eq(calendarId), isNull(), eq(NOW), isNull(), isNull(), isNull(), eq(4));
+    }
+
+    @Test
+    void shouldSkipLoadsBeyondConcurrencyLimit() {
+        final var second = UUID.randomUUID();
+        final var third = UUID.randomUUID();
+        when(timeSlotRepository.findByCalendarIdWithFilters(any(), isNull(), eq(NOW), isNull(), isNull(), isNull(), eq(4)))
+                .thenReturn(Flux.never());
+
+        index.overlaps(calendarId, at(9), at(10));
+        index.overlaps(second, at(9), at(10));
+        index.overlaps(third, at(9), at(10));
+
+        verify(timeSlotRepository, times(2)).findByCalendarIdWithFilters(any(), isNull(), eq(NOW), isNull(), isNull(), isNull(), eq(4));
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    private void stubSlots(final UUID id, final TimeSlot... slots) {
+        when(timeSlotRepository.findByCalendarIdWithFilters(eq(id), isNull(), eq(NOW), isNull(), isNull(), isNull(), eq(4)))
+                .thenReturn(Flux.just(slots));
+    }
+
+    private TimeSlot slot(final int startHour, final int endHour) {
+        return TimeSlot.builder()
+                .id(UUID.randomUUID()).calendarId(calendarId)
+                .startTime(at(startHour)).endTime(at(endHour)).status(SlotStatus.FREE).build();
+    }
+
+    private static LocalDateTime at(final int hour) {
+        return DAY.withHour(hour);
+    }
+}
@@ -0,0 +1,69 @@
+package com.doodle.scheduler.service;
+
+import com.doodle.scheduler.dto.CommonAvailabilityResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommonFreeTimeSweepTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2026, 3, 2, 0, 0);
+
+    private final UUID alice = UUID.randomUUID();
+    private final UUID bob = UUID.randomUUID();
+    private final UUID carol = UUID.randomUUID();
+
+    @Test
+    void shouldIntersectFreeTimeOfAllParticipants() {
+        final var sweep = new CommonFreeTimeSweep(3, DAY, DAY.plusDays(1));
+        sweep.accept(alice, at(9, 0), at(12, 0));
+        sweep.accept(bob, at(10, 0), at(10, 30));
+        sweep.accept(bob, at(10, 30), at(11, 30));
+        sweep.accept(carol, at(10, 15), at(13, 0));
+        sweep.accept(alice, at(14, 0), at(15, 0));
+
+        assertThat(sweep.finish(30))
+                .containsExactly(new CommonAvailabilityResponse(at(10, 15), at(11, 30)));
+    }
+
+    @Test
+    void shouldDropIntervalsShorterThanRequiredDuration() {
+        final var sweep = new CommonFreeTimeSweep(2, DAY, DAY.plusDays(1));
+        sweep.accept(alice, at(9, 0), at(10, 0));
+        sweep.accept(bob, at(9, 40), at(11, 0));
+        sweep.accept(alice, at(10, 30), at(12, 0));
+
+        assertThat(sweep.finish(30))
+                .containsExactly(new CommonAvailabilityResponse(at(10, 30), at(11, 0)));
+    }
+
+    @Test
+    void shouldMergeOverlappingSlotsFromDifferentCalendarsOfOneUser() {
+        final var sweep = new CommonFreeTimeSweep(2, DAY, DAY.plusDays(1));
+        sweep.accept(alice, at(9, 0), at(11, 0));
+        sweep.accept(alice, at(10, 0), at(12, 0));
+        sweep.accept(bob, at(8, 0), at(13, 0));
+
+        assertThat(sweep.finish(60))
+                .containsExactly(new CommonAvailabilityResponse(at(9, 0), at(12, 0)));
+    }
+
+    @Test
+    void shouldClipToWindowAndReturnNothingWhenSomeoneHasNoFreeTime() {
+        final var clipped = new CommonFreeTimeSweep(1, at(10, 0), at(11, 0));
+        clipped.accept(alice, at(9, 0), at(12, 0));
+        assertThat(clipped.finish(60))
+                .containsExactly(new CommonAvailabilityResponse(at(10, 0), at(11, 0)));
+
+        final var missing = new CommonFreeTimeSweep(2, DAY, DAY.plusDays(1));
+        missing.accept(alice, at(9, 0), at(12, 0));
+        assertThat(missing.finish(1)).isEmpty();
+    }
+
+    private static LocalDateTime at(final int hour, final int minute) {
+        return DAY.withHour(hour).withMinute(minute);
+    }
+}
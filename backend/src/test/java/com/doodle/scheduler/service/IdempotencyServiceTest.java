@@ -0,0 +1,160 @@
+package com.doodle.scheduler.service;
+
+import com.doodle.scheduler.domain.IdempotencyRecord;
+import com.doodle.scheduler.dto.IdempotentResponse;
+import com.doodle.scheduler.exception.IdempotencyKeyReusedException;
+import com.doodle.scheduler.repository.IdempotencyKeyRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+    private static final Clock FIXED_CLOCK = Clock.fixed(Instant.parse("2026-02-24T10:00:00Z"), ZoneOffset.UTC);
+    private static final String SCOPE = "POST /api/v1/meetings";
+    private static final String KEY = "retry-1";
+    private static final byte[] REQUEST = "{\"slotId\":\"a\"}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] OTHER_REQUEST = "{\"slotId\":\"b\"}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] BODY = "{\"id\":\"m\"}".getBytes(StandardCharsets.UTF_8);
+
+    @Mock private IdempotencyKeyRepository repository;
+    @Mock private TransactionalOperator transactionalOperator;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger executions = new AtomicInteger();
+
+    private IdempotencyService service;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(inv -> inv.getArgument(0));
+        lenient().when(repository.complete(any(), anyInt(), any())).thenReturn(Mono.just(1));
+        service = new IdempotencyService(repository, transactionalOperator, meterRegistry, FIXED_CLOCK,
+                Duration.ofHours(24), 100, Duration.ofMinutes(15));
+    }
+
+    @Test
+    void shouldExecuteOnceAndReplayRetries() {
+        when(repository.reserve(any(), any(), any(), any())).thenReturn(Mono.just(1));
+
+        StepVerifier.create(service.execute(SCOPE, KEY, REQUEST, this::action))
+                .assertNext(response -> {
+                    assertThat(response.status()).isEqualTo(201);
+                    assertThat(response.replayed()).isFalse();
+                })
+                .verifyComplete();
+        StepVerifier.create(service.execute(SCOPE, KEY, REQUEST, this::action))
+                .assertNext(response -> {
+                    assertThat(response.body()).isEqualTo(BODY);
+                    assertThat(response.replayed()).isTrue();
+                })
+                .verifyComplete();
+
+        assertThat(executions).hasValue(1);
+        assertThat(outcome("executed")).isEqualTo(1.0);
+        assertThat(outcome("replayed")).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldCoalesceConcurrentRetriesOntoTheRunningAttempt() {
+        final Sinks.One<IdempotentResponse> pending = Sinks.one();
+        when(repository.reserve(any(), any(), any(), any())).thenReturn(Mono.just(1));
+
+        final var first = service.execute(SCOPE, KEY, REQUEST, () -> pending.asMono().doOnSubscribe(s -> executions.incrementAndGet()));
+        final var second = service.execute(SCOPE, KEY, REQUEST, this::action);
+
+        StepVerifier.create(Mono.zip(first, second))
+                .then(() -> pending.tryEmitValue(new IdempotentResponse(201, BODY, false)))
+                .assertNext(both -> {
+                    assertThat(both.getT1().replayed()).isFalse();
+                    assertThat(both.getT2().replayed()).isTrue();
+                })
+                .verifyComplete();
+
+        assertThat(executions).hasValue(1);
+        assertThat(outcome("coalesced")).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldReplayResponseStoredByAnotherNode() {
+        when(repository.reserve(any(), any(), any(), any())).thenReturn(Mono.just(0));
+        when(repository.findActive(any(), any())).thenReturn(Mono.just(IdempotencyRecord.builder()
+                .id(new byte[32])
+                .requestHash(sha256(REQUEST))
+                .status(201)
+                .body(BODY)
+                .expiresAt(LocalDateTime.now(FIXED_CLOCK).plusHours(1))
+                .build()));
+
+        StepVerifier.create(service.execute(SCOPE, KEY, REQUEST, this::action))
+                .assertNext(response -> assertThat(response.replayed()).isTrue())
+                .verifyComplete();
+
+        assertThat(executions).hasValue(0);
+        verify(repository, never()).complete(any(), anyInt(), any());
+    }
+
+    @Test
+    void shouldRejectKeyReusedForDifferentRequest() {
+        when(repository.reserve(any(), any(), any(), any())).thenReturn(Mono.just(1));
+
+        StepVerifier.create(service.execute(SCOPE, KEY, REQUEST, this::action)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(service.execute(SCOPE, KEY, OTHER_REQUEST, this::action))
+                .expectError(IdempotencyKeyReusedException.class)
+                .verify();
+
+        assertThat(executions).hasValue(1);
+        assertThat(outcome("reused")).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldRejectBlankKey() {
+        StepVerifier.create(service.execute(SCOPE, " ", REQUEST, this::action))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
+    private Mono<IdempotentResponse> action() {
+        return Mono.fromSupplier(() -> {
+            executions.incrementAndGet();
+            return new IdempotentResponse(201, BODY, false);
+        });
+    }
+
+    private double outcome(final String outcome) {
+        return meterRegistry.counter("idempotency_requests_total", "outcome", outcome).count();
+    }
+
+    private static byte[] sha256(final byte[] value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value);
+        } catch (final Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.doodle.scheduler.service;
+
+import com.doodle.scheduler.domain.Calendar;
+import com.doodle.scheduler.domain.User;
+import com.doodle.scheduler.repository.CalendarRepository;
+import com.doodle.scheduler.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LookupCacheTest {
+
+    @Mock private UserRepository userRepository;
+    @Mock private CalendarRepository calendarRepository;
+    @Mock private CalendarChangeListener changeListener;
+
+    private final Sinks.Many<CalendarChangeListener.Invalidation> invalidations = Sinks.many().multicast().directBestEffort();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UUID userId = UUID.randomUUID();
+    private LookupCache lookupCache;
+
+    @BeforeEach
+    void setUp() {
+        when(changeListener.invalidations()).thenReturn(invalidations.asFlux());
+        lookupCache = new LookupCache(userRepository, calendarRepository, changeListener, meterRegistry,
+                100, Duration.ofMinutes(5));
+        lookupCache.subscribe();
+    }
+
+    @Test
+    void shouldServeRepeatedLookupsFromCache() {
+        final var user = User.builder().id(userId).username("cached").email("cached@test.com").build();
+        when(userRepository.findById(userId)).thenReturn(Mono.just(user));
+
+        StepVerifier.create(lookupCache.findUser(userId)).expectNext(user).verifyComplete();
+        StepVerifier.create(lookupCache.findUser(userId)).expectNext(user).verifyComplete();
+
+        verify(userRepository, times(1)).findById(userId);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "users").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldNotCacheMissingEntries() {
+        when(userRepository.findById(userId)).thenReturn(Mono.empty());
+
+        StepVerifier.create(lookupCache.findUser(userId)).verifyComplete();
+        StepVerifier.create(lookupCache.findUser(userId)).verifyComplete();
+
+        verify(userRepository, times(2)).findById(userId);
+    }
+
+    @Test
+    void shouldReloadAfterDatabaseInvalidation() {
+        final var calendarId = UUID.randomUUID();
+        final var calendar = Calendar.builder().id(calendarId).userId(userId).name("Work").build();
+        lookupCache.putCalendar(calendar);
+        when(calendarRepository.findById(calendarId)).thenReturn(Mono.empty());
+
+        StepVerifier.create(lookupCache.findCalendar(calendarId)).expectNext(calendar).verifyComplete();
+
+        invalidations.tryEmitNext(new CalendarChangeListener.Invalidation("calendars", calendarId));
+
+        StepVerifier.create(lookupCache.findCalendar(calendarId)).verifyComplete();
+        verify(calendarRepository, times(1)).findById(calendarId);
+    }
+}
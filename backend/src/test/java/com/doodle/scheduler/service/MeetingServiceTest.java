@@ -1,12 +1,13 @@
 package com.doodle.scheduler.service;
 
 import com.doodle.scheduler.domain.Meeting;
-import com.doodle.scheduler.domain.MeetingParticipant;
 import com.doodle.scheduler.domain.SlotStatus;
 import com.doodle.scheduler.domain.TimeSlot;
 import com.doodle.scheduler.dto.CreateMeetingRequest;
+import com.doodle.scheduler.exception.MeetingNotFoundException;
 import com.doodle.scheduler.exception.SlotAlreadyBusyException;
 import com.doodle.scheduler.exception.SlotNotFoundException;
+import com.doodle.scheduler.exception.UserNotFoundException;
 import com.doodle.scheduler.repository.MeetingParticipantRepository;
 import com.doodle.scheduler.repository.MeetingRepository;
 import com.doodle.scheduler.repository.TimeSlotRepository;
@@ -18,6 +19,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -32,6 +34,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -67,11 +71,11 @@ class MeetingServiceTest {
                 .startTime(start).endTime(end).status(SlotStatus.FREE).build();
         final var savedMeeting = Meeting.builder()
                 .id(meetingId).title("Team Sync").organizerId(organizerId).slotId(slotId).build();
-        final var busySlot = freeSlot.withStatus(SlotStatus.BUSY).withMeetingId(meetingId);
+        final var claimedSlot = freeSlot.withStatus(SlotStatus.BUSY);
 
-        when(timeSlotRepository.findById(slotId)).thenReturn(Mono.just(freeSlot));
-        when(meetingRepository.save(any())).thenReturn(Mono.just(savedMeeting));
-        when(timeSlotRepository.save(any())).thenReturn(Mono.just(busySlot));
+        when(timeSlotRepository.claimIfFree(slotId)).thenReturn(Mono.just(claimedSlot));
+        when(meetingRepository.insertLinkedToSlot("Team Sync", null, organizerId, slotId))
+                .thenReturn(Mono.just(savedMeeting));
 
         StepVerifier.create(meetingService.schedule(
                         new CreateMeetingRequest(slotId, organizerId, "Team Sync", null, List.of())))
@@ -88,13 +92,12 @@ class MeetingServiceTest {
                 .startTime(start).endTime(end).status(SlotStatus.FREE).build();
         final var savedMeeting = Meeting.builder()
                 .id(meetingId).title("Sync").organizerId(organizerId).slotId(slotId).build();
-        final var participant = MeetingParticipant.builder()
-                .id(UUID.randomUUID()).meetingId(meetingId).userId(participantId).build();
 
-        when(timeSlotRepository.findById(slotId)).thenReturn(Mono.just(freeSlot));
-        when(meetingRepository.save(any())).thenReturn(Mono.just(savedMeeting));
-        when(timeSlotRepository.save(any())).thenReturn(Mono.just(freeSlot.withStatus(SlotStatus.BUSY).withMeetingId(meetingId)));
-        when(participantRepository.save(any())).thenReturn(Mono.just(participant));
+        when(timeSlotRepository.claimIfFree(slotId)).thenReturn(Mono.just(freeSlot.withStatus(SlotStatus.BUSY)));
+        when(meetingRepository.insertLinkedToSlot("Sync", null, organizerId, slotId))
+                .thenReturn(Mono.just(savedMeeting));
+        when(participantRepository.insertForExistingUsers(meetingId, new UUID[]{participantId}))
+                .thenReturn(Flux.just(participantId));
 
         StepVerifier.create(meetingService.schedule(
                         new CreateMeetingRequest(slotId, organizerId, "Sync", null, List.of(participantId))))
@@ -102,9 +105,33 @@ class MeetingServiceTest {
                 .verifyComplete();
     }
 
+    @Test
+    void shouldFailWholeBookingWhenParticipantUnknown() {
+        final var meetingId = UUID.randomUUID();
+        final var knownId = UUID.randomUUID();
+        final var unknownId = UUID.randomUUID();
+        final var savedMeeting = Meeting.builder()
+                .id(meetingId).title("Sync").organizerId(organizerId).slotId(slotId).build();
+        final var claimedSlot = TimeSlot.builder()
+                .id(slotId).calendarId(UUID.randomUUID())
+                .startTime(start).endTime(end).status(SlotStatus.BUSY).build();
+
+        when(timeSlotRepository.claimIfFree(slotId)).thenReturn(Mono.just(claimedSlot));
+        when(meetingRepository.insertLinkedToSlot("Sync", null, organizerId, slotId))
+                .thenReturn(Mono.just(savedMeeting));
+        when(participantRepository.insertForExistingUsers(meetingId, new UUID[]{knownId, unknownId}))
+                .thenReturn(Flux.just(knownId));
+
+        StepVerifier.create(meetingService.schedule(
+                        new CreateMeetingRequest(slotId, organizerId, "Sync", null, List.of(knownId, unknownId, knownId))))
+                .expectErrorMatches(e -> e instanceof UserNotFoundException && e.getMessage().contains(unknownId.toString()))
+                .verify();
+    }
+
     @Test
     void shouldFailWhenSlotNotFound() {
-        when(timeSlotRepository.findById(slotId)).thenReturn(Mono.empty());
+        when(timeSlotRepository.claimIfFree(slotId)).thenReturn(Mono.empty());
+        when(timeSlotRepository.existsById(slotId)).thenReturn(Mono.just(false));
 
         StepVerifier.create(meetingService.schedule(
                         new CreateMeetingRequest(slotId, organizerId, "Sync", null, List.of())))
@@ -114,16 +141,25 @@ class MeetingServiceTest {
 
     @Test
     void shouldFailWhenSlotAlreadyBusy() {
-        final var busySlot = TimeSlot.builder()
-                .id(slotId).calendarId(UUID.randomUUID())
-                .startTime(start).endTime(end).status(SlotStatus.BUSY)
-                .meetingId(UUID.randomUUID()).build();
-
-        when(timeSlotRepository.findById(slotId)).thenReturn(Mono.just(busySlot));
+        when(timeSlotRepository.claimIfFree(slotId)).thenReturn(Mono.empty());
+        when(timeSlotRepository.existsById(slotId)).thenReturn(Mono.just(true));
 
         StepVerifier.create(meetingService.schedule(
                         new CreateMeetingRequest(slotId, organizerId, "Sync", null, List.of())))
                 .expectError(SlotAlreadyBusyException.class)
                 .verify();
+
+        verify(meetingRepository, never()).insertLinkedToSlot(any(), any(), any(), any());
+        verify(meterRegistry).counter("slot_booking_conflicts_total");
+    }
+
+    @Test
+    void shouldFailWhenMeetingNotFound() {
+        final var meetingId = UUID.randomUUID();
+        when(meetingRepository.findResponseById(meetingId)).thenReturn(Mono.empty());
+
+        StepVerifier.create(meetingService.findById(meetingId))
+                .expectError(MeetingNotFoundException.class)
+                .verify();
     }
 }
@@ -0,0 +1,82 @@
+package com.doodle.scheduler.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryCoalescerTest {
+
+    private static final String QUERY = "availability";
+    private static final String KEY = "user-1";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    void shouldShareOneInFlightQueryBetweenIdenticalCallers() {
+        final var coalescer = new QueryCoalescer(meterRegistry, Duration.ZERO);
+        final Sinks.One<String> result = Sinks.one();
+
+        final var first = coalescer.execute(QUERY, KEY, () -> counted(result.asMono()));
+        final var second = coalescer.execute(QUERY, KEY, () -> counted(result.asMono()));
+
+        StepVerifier.create(Mono.zip(first, second))
+                .then(() -> assertThat(meterRegistry.get(QueryCoalescer.METRIC_IN_FLIGHT).gauge().value()).isEqualTo(1.0))
+                .then(() -> result.tryEmitValue("page"))
+                .assertNext(both -> assertThat(both.getT2()).isEqualTo(both.getT1()))
+                .verifyComplete();
+
+        assertThat(executions).hasValue(1);
+        assertThat(outcome(QueryCoalescer.OUTCOME_EXECUTED)).isEqualTo(1.0);
+        assertThat(outcome(QueryCoalescer.OUTCOME_COALESCED)).isEqualTo(1.0);
+        assertThat(meterRegistry.get(QueryCoalescer.METRIC_IN_FLIGHT).gauge().value()).isZero();
+    }
+
+    @Test
+    void shouldRunAgainOnceFinishedWithoutMicroTtl() {
+        final var coalescer = new QueryCoalescer(meterRegistry, Duration.ZERO);
+
+        StepVerifier.create(coalescer.execute(QUERY, KEY, () -> counted(Mono.just("a")))).expectNext("a").verifyComplete();
+        StepVerifier.create(coalescer.execute(QUERY, KEY, () -> counted(Mono.just("b")))).expectNext("b").verifyComplete();
+
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    void shouldReplayFinishedResultWithinMicroTtl() {
+        final var coalescer = new QueryCoalescer(meterRegistry, Duration.ofMinutes(1));
+
+        StepVerifier.create(coalescer.execute(QUERY, KEY, () -> counted(Mono.just("a")))).expectNext("a").verifyComplete();
+        StepVerifier.create(coalescer.execute(QUERY, KEY, () -> counted(Mono.just("b")))).expectNext("a").verifyComplete();
+
+        assertThat(executions).hasValue(1);
+        assertThat(outcome(QueryCoalescer.OUTCOME_COALESCED)).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldNotKeepFailuresForLaterCallers() {
+        final var coalescer = new QueryCoalescer(meterRegistry, Duration.ofMinutes(1));
+
+        StepVerifier.create(coalescer.execute(QUERY, KEY, () -> counted(Mono.<String>error(new IllegalStateException()))))
+                .expectError(IllegalStateException.class)
+                .verify();
+        StepVerifier.create(coalescer.execute(QUERY, KEY, () -> counted(Mono.just("a")))).expectNext("a").verifyComplete();
+
+        assertThat(executions).hasValue(2);
+    }
+
+    private <T> Mono<T> counted(final Mono<T> query) {
+        return query.doOnSubscribe(s -> executions.incrementAndGet());
+    }
+
+    private double outcome(final String outcome) {
+        return meterRegistry.counter(QueryCoalescer.METRIC_QUERIES, "query", QUERY, "outcome", outcome).count();
+    }
+}
@@ -0,0 +1,91 @@
+package com.doodle.scheduler.service;
+
+import com.doodle.scheduler.repository.MeetingRepository;
+import com.doodle.scheduler.repository.TimeSlotRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RetentionJobTest {
+
+    private static final Clock FIXED_CLOCK = Clock.fixed(Instant.parse("2026-02-24T10:00:00Z"), ZoneOffset.UTC);
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2025, 11, 26, 10, 0);
+    private static final int BATCH_SIZE = 2;
+
+    @Mock private MeetingRepository meetingRepository;
+    @Mock private TimeSlotRepository timeSlotRepository;
+    @Mock private CalendarIntervalIndex intervalIndex;
+    @Mock private ConnectionFactory connectionFactory;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldDrainEachPassInBatchesUntilAShortBatch() {
+        when(meetingRepository.archiveExpiredMeetings(CUTOFF, BATCH_SIZE)).thenReturn(Mono.just(2L), Mono.just(1L));
+        when(timeSlotRepository.archiveExpiredUnbookedSlots(CUTOFF, BATCH_SIZE)).thenReturn(Mono.just(0L));
+        when(timeSlotRepository.deleteExpiredFreeSlots(CUTOFF, BATCH_SIZE))
+                .thenReturn(Mono.just(2), Mono.just(2), Mono.just(0));
+        when(timeSlotRepository.purgeExpiredTombstones(CUTOFF, BATCH_SIZE)).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(job(connectionFactory).run()).verifyComplete();
+
+        final InOrder order = inOrder(meetingRepository, timeSlotRepository);
+        order.verify(meetingRepository, times(2)).archiveExpiredMeetings(CUTOFF, BATCH_SIZE);
+        order.verify(timeSlotRepository).archiveExpiredUnbookedSlots(CUTOFF, BATCH_SIZE);
+        order.verify(timeSlotRepository, times(3)).deleteExpiredFreeSlots(CUTOFF, BATCH_SIZE);
+        order.verify(timeSlotRepository).purgeExpiredTombstones(CUTOFF, BATCH_SIZE);
+        assertThat(meterRegistry.counter("retention_meetings_archived_total").count()).isEqualTo(3.0);
+        assertThat(meterRegistry.counter("retention_slots_archived_total").count()).isZero();
+        assertThat(meterRegistry.counter("retention_slots_deleted_total").count()).isEqualTo(4.0);
+        assertThat(meterRegistry.counter("retention_tombstones_purged_total").count()).isEqualTo(1.0);
+        verify(intervalIndex, times(4)).invalidateAll();
+    }
+
+    @Test
+    void shouldDeferBatchesWhilePoolIsBusy() {
+        final var pool = mock(ConnectionPool.class);
+        final var metrics = mock(PoolMetrics.class);
+        when(pool.getMetrics()).thenReturn(Optional.of(metrics));
+        when(metrics.getMaxAllocatedSize()).thenReturn(20);
+        when(metrics.acquiredSize()).thenReturn(15, 15, 2);
+        when(meetingRepository.archiveExpiredMeetings(CUTOFF, BATCH_SIZE)).thenReturn(Mono.just(0L));
+        when(timeSlotRepository.archiveExpiredUnbookedSlots(CUTOFF, BATCH_SIZE)).thenReturn(Mono.just(0L));
+        when(timeSlotRepository.deleteExpiredFreeSlots(CUTOFF, BATCH_SIZE)).thenReturn(Mono.just(0));
+        when(timeSlotRepository.purgeExpiredTombstones(CUTOFF, BATCH_SIZE)).thenReturn(Mono.just(0L));
+
+        StepVerifier.create(job(pool).run()).verifyComplete();
+
+        verify(meetingRepository).archiveExpiredMeetings(CUTOFF, BATCH_SIZE);
+        assertThat(meterRegistry.counter("retention_batches_deferred_total").count()).isEqualTo(2.0);
+        verify(intervalIndex, never()).invalidateAll();
+    }
+
+    private RetentionJob job(final ConnectionFactory factory) {
+        return new RetentionJob(meetingRepository, timeSlotRepository, intervalIndex, factory, meterRegistry, FIXED_CLOCK,
+                true, Duration.ofDays(90), Duration.ofHours(1), BATCH_SIZE, Duration.ofMillis(1), 0.5);
+    }
+}
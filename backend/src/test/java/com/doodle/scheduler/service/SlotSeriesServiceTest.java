@@ -0,0 +1,190 @@
+package com.doodle.scheduler.service;
+
+import com.doodle.scheduler.domain.SlotSeries;
+import com.doodle.scheduler.dto.CreateSlotSeriesRequest;
+import com.doodle.scheduler.dto.UpdateSlotSeriesRequest;
+import com.doodle.scheduler.exception.SlotOverlapException;
+import com.doodle.scheduler.repository.SlotSeriesRepository;
+import com.doodle.scheduler.repository.TimeSlotRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.spi.R2dbcDataIntegrityViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SlotSeriesServiceTest {
+
+    private static final Set<DayOfWeek> WEEKDAYS = EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY);
+    private static final LocalDate MONDAY = LocalDate.of(2026, 3, 2);
+
+    @Mock private SlotSeriesRepository seriesRepository;
+    @Mock private TimeSlotRepository timeSlotRepository;
+    @Mock private MeterRegistry meterRegistry;
+    @Mock private Counter counter;
+    @Mock private CalendarIntervalIndex intervalIndex;
+
+    @InjectMocks
+    private SlotSeriesService slotSeriesService;
+
+    private final UUID calendarId = UUID.randomUUID();
+    private final UUID seriesId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(meterRegistry.counter(anyString())).thenReturn(counter);
+    }
+
+    @Test
+    void shouldExpandWeekdaysIntoFixedLengthSlots() {
+        final var series = series(MONDAY.plusDays(6));
+
+        StepVerifier.create(SlotSeriesService.expand(series, series.startDate(), series.endDate()))
+                .expectNextMatches(s -> s.startTime().equals(MONDAY.atTime(9, 0))
+                        && s.endTime().equals(MONDAY.atTime(9, 30))
+                        && seriesId.equals(s.seriesId()))
+                .expectNextCount(5 * 16 - 2)
+                .expectNextMatches(s -> s.startTime().equals(MONDAY.plusDays(4).atTime(16, 30))
+                        && s.endTime().equals(MONDAY.plusDays(4).atTime(17, 0)))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldRoundTripDaysOfWeekMask() {
+        final var days = EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.SUNDAY);
+
+        assertThat(SlotSeriesService.fromMask(SlotSeriesService.toMask(days)))
+                .isEqualTo(days);
+    }
+
+    @Test
+    void shouldInsertGeneratedSlotsInBoundedChunks() {
+        final var endDate = MONDAY.plusWeeks(26).minusDays(1);
+        final var saved = series(endDate);
+
+        when(seriesRepository.save(any())).thenReturn(Mono.just(saved));
+        when(timeSlotRepository.insertSeriesChunk(eq(calendarId), eq(seriesId), any(), any()))
+                .thenAnswer(inv -> Mono.just(((LocalDateTime[]) inv.getArgument(2)).length));
+
+        StepVerifier.create(slotSeriesService.create(calendarId, new CreateSlotSeriesRequest(
+                        WEEKDAYS, LocalTime.of(9, 0), LocalTime.of(17, 0), 30, MONDAY, endDate)))
+                .expectNextMatches(r -> r.slotsCreated() == 26 * 5 * 16 && r.daysOfWeek().equals(WEEKDAYS))
+                .verifyComplete();
+
+        verify(timeSlotRepository, times(5)).insertSeriesChunk(eq(calendarId), eq(seriesId), any(), any());
+    }
+
+    @Test
+    void shouldDiscardSeriesAndWrittenChunksOnConcurrentOverlap() {
+        final var endDate = MONDAY.plusWeeks(26).minusDays(1);
+        final var saved = series(endDate);
+        final var chunks = new AtomicInteger();
+
+        when(seriesRepository.save(any())).thenReturn(Mono.just(saved));
+        when(timeSlotRepository.insertSeriesChunk(eq(calendarId), eq(seriesId), any(), any()))
+                .thenAnswer(inv -> chunks.incrementAndGet() < 3
+                        ? Mono.just(((LocalDateTime[]) inv.getArgument(2)).length)
+                        : Mono.error(exclusionViolation()));
+        when(timeSlotRepository.deleteFreeSeriesSlotsFrom(seriesId, MONDAY.atStartOfDay())).thenReturn(Mono.just(1000));
+        when(seriesRepository.deleteById(seriesId)).thenReturn(Mono.empty());
+
+        StepVerifier.create(slotSeriesService.create(calendarId, new CreateSlotSeriesRequest(
+                        WEEKDAYS, LocalTime.of(9, 0), LocalTime.of(17, 0), 30, MONDAY, endDate)))
+                .expectError(SlotOverlapException.class)
+                .verify();
+
+        verify(timeSlotRepository, times(3)).insertSeriesChunk(eq(calendarId), eq(seriesId), any(), any());
+        verify(seriesRepository).deleteById(seriesId);
+        verify(intervalIndex).invalidate(calendarId);
+    }
+
+    @Test
+    void shouldRevertExtensionOnConcurrentOverlap() {
+        final var series = series(MONDAY.plusWeeks(1).minusDays(1));
+        final var newEnd = MONDAY.plusWeeks(2).minusDays(1);
+        final var extendedFrom = MONDAY.plusWeeks(1).atStartOfDay();
+
+        when(seriesRepository.findById(seriesId)).thenReturn(Mono.just(series));
+        when(seriesRepository.save(series.withEndDate(newEnd))).thenReturn(Mono.just(series.withEndDate(newEnd)));
+        when(seriesRepository.save(series)).thenReturn(Mono.just(series));
+        when(timeSlotRepository.insertSeriesChunk(eq(calendarId), eq(seriesId), any(), any()))
+                .thenReturn(Mono.error(exclusionViolation()));
+        when(timeSlotRepository.deleteFreeSeriesSlotsFrom(seriesId, extendedFrom)).thenReturn(Mono.just(0));
+
+        StepVerifier.create(slotSeriesService.updateEndDate(seriesId, new UpdateSlotSeriesRequest(newEnd)))
+                .expectError(SlotOverlapException.class)
+                .verify();
+
+        verify(seriesRepository).save(series);
+        verify(seriesRepository, never()).deleteById(any(UUID.class));
+    }
+
+    @Test
+    void shouldDeleteOnlyFutureFreeSlotsWhenTruncating() {
+        final var series = series(MONDAY.plusWeeks(4));
+        final var newEnd = MONDAY.plusWeeks(2);
+
+        when(seriesRepository.findById(seriesId)).thenReturn(Mono.just(series));
+        when(timeSlotRepository.deleteFreeSeriesSlotsFrom(seriesId, newEnd.plusDays(1).atStartOfDay()))
+                .thenReturn(Mono.just(160));
+        when(seriesRepository.save(series.withEndDate(newEnd))).thenReturn(Mono.just(series.withEndDate(newEnd)));
+
+        StepVerifier.create(slotSeriesService.updateEndDate(seriesId, new UpdateSlotSeriesRequest(newEnd)))
+                .expectNextMatches(r -> r.slotsRemoved() == 160 && r.endDate().equals(newEnd))
+                .verifyComplete();
+
+        verify(timeSlotRepository, never()).insertSeriesChunk(any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldRejectSeriesLongerThanOneYear() {
+        StepVerifier.create(slotSeriesService.create(calendarId, new CreateSlotSeriesRequest(
+                        WEEKDAYS, LocalTime.of(9, 0), LocalTime.of(17, 0), 30, MONDAY, MONDAY.plusYears(2))))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
+    private static DataIntegrityViolationException exclusionViolation() {
+        return new DataIntegrityViolationException("constraint violated",
+                new R2dbcDataIntegrityViolationException("constraint violated", "23P01"));
+    }
+
+    private SlotSeries series(final LocalDate endDate) {
+        return SlotSeries.builder()
+                .id(seriesId)
+                .calendarId(calendarId)
+                .daysOfWeekMask(SlotSeriesService.toMask(WEEKDAYS))
+                .dayStart(LocalTime.of(9, 0))
+                .dayEnd(LocalTime.of(17, 0))
+                .slotMinutes(30)
+                .startDate(MONDAY)
+                .endDate(endDate)
+                .build();
+    }
+}
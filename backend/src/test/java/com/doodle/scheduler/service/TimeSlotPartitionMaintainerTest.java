@@ -0,0 +1,41 @@
+package com.doodle.scheduler.service;
+
+import com.doodle.scheduler.repository.TimeSlotRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TimeSlotPartitionMaintainerTest {
+
+    @Mock private TimeSlotRepository timeSlotRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private TimeSlotPartitionMaintainer maintainer;
+
+    @BeforeEach
+    void setUp() {
+        maintainer = new TimeSlotPartitionMaintainer(timeSlotRepository, meterRegistry, 3, Duration.ofHours(6));
+    }
+
+    @Test
+    void shouldCountCreatedPartitions() {
+        when(timeSlotRepository.ensurePartitions(3)).thenReturn(Mono.just(2), Mono.just(0));
+
+        StepVerifier.create(maintainer.ensurePartitions()).expectNext(2).verifyComplete();
+        StepVerifier.create(maintainer.ensurePartitions()).expectNext(0).verifyComplete();
+
+        assertThat(meterRegistry.counter("time_slot_partitions_created_total").count()).isEqualTo(2.0);
+    }
+}
@@ -1,35 +1,54 @@
 package com.doodle.scheduler.service;
 
+import com.doodle.scheduler.domain.Calendar;
 import com.doodle.scheduler.domain.SlotStatus;
 import com.doodle.scheduler.domain.TimeSlot;
+import com.doodle.scheduler.dto.AvailabilityResponse;
+import com.doodle.scheduler.dto.BatchSlotResult;
+import com.doodle.scheduler.dto.CalendarChangeEvent;
 import com.doodle.scheduler.dto.CreateSlotRequest;
+import com.doodle.scheduler.dto.InsertedSlot;
+import com.doodle.scheduler.dto.SlotCursor;
+import com.doodle.scheduler.dto.UpdateSlotRequest;
 import com.doodle.scheduler.exception.CalendarNotFoundException;
 import com.doodle.scheduler.exception.SlotLinkedToMeetingException;
 import com.doodle.scheduler.exception.SlotNotFoundException;
 import com.doodle.scheduler.exception.SlotOverlapException;
-import com.doodle.scheduler.repository.CalendarRepository;
+import com.doodle.scheduler.exception.SyncTokenExpiredException;
 import com.doodle.scheduler.repository.TimeSlotRepository;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.spi.R2dbcDataIntegrityViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,9 +57,12 @@ class TimeSlotServiceTest {
     private static final Clock FIXED_CLOCK = Clock.fixed(Instant.parse("2026-02-24T10:00:00Z"), ZoneOffset.UTC);
 
     @Mock private TimeSlotRepository timeSlotRepository;
-    @Mock private CalendarRepository calendarRepository;
     @Mock private MeterRegistry meterRegistry;
     @Mock private Counter counter;
+    @Mock private CalendarIntervalIndex intervalIndex;
+    @Mock private LookupCache lookupCache;
+    @Mock private CalendarChangeListener changeListener;
+    @Spy private QueryCoalescer queryCoalescer = new QueryCoalescer(new SimpleMeterRegistry(), Duration.ZERO);
 
     @InjectMocks
     private TimeSlotService timeSlotService;
@@ -61,8 +83,6 @@ class TimeSlotServiceTest {
                 .id(UUID.randomUUID()).calendarId(calendarId)
                 .startTime(start).endTime(end).status(SlotStatus.FREE).build();
 
-        when(calendarRepository.existsById(calendarId)).thenReturn(Mono.just(true));
-        when(timeSlotRepository.countOverlapping(calendarId, start, end)).thenReturn(Mono.just(0L));
         when(timeSlotRepository.save(any())).thenReturn(Mono.just(saved));
 
         StepVerifier.create(timeSlotService.create(calendarId, new CreateSlotRequest(start, end)))
@@ -72,7 +92,7 @@ class TimeSlotServiceTest {
 
     @Test
     void shouldFailWhenCalendarNotFound() {
-        when(calendarRepository.existsById(calendarId)).thenReturn(Mono.just(false));
+        when(timeSlotRepository.save(any())).thenReturn(Mono.error(violation(SqlErrors.FOREIGN_KEY_VIOLATION)));
 
         StepVerifier.create(timeSlotService.create(calendarId, new CreateSlotRequest(start, end)))
                 .expectError(CalendarNotFoundException.class)
@@ -81,14 +101,125 @@ class TimeSlotServiceTest {
 
     @Test
     void shouldFailWhenSlotOverlaps() {
-        when(calendarRepository.existsById(calendarId)).thenReturn(Mono.just(true));
-        when(timeSlotRepository.countOverlapping(calendarId, start, end)).thenReturn(Mono.just(1L));
+        when(timeSlotRepository.save(any())).thenReturn(Mono.error(violation(SqlErrors.EXCLUSION_VIOLATION)));
 
         StepVerifier.create(timeSlotService.create(calendarId, new CreateSlotRequest(start, end)))
                 .expectError(SlotOverlapException.class)
                 .verify();
     }
 
+    @Test
+    void shouldRejectOverlapKnownToIndexWithoutQueryingDatabase() {
+        when(intervalIndex.overlaps(calendarId, start, end)).thenReturn(true);
+
+        StepVerifier.create(timeSlotService.create(calendarId, new CreateSlotRequest(start, end)))
+                .expectError(SlotOverlapException.class)
+                .verify();
+
+        verify(timeSlotRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldReturnNextCursorWhenMoreSlotsThanLimit() {
+        final var first = TimeSlot.builder().id(UUID.randomUUID()).calendarId(calendarId)
+                .startTime(start).endTime(end).status(SlotStatus.FREE).build();
+        final var second = first.withId(UUID.randomUUID()).withStartTime(end).withEndTime(end.plusHours(1));
+        final var third = second.withId(UUID.randomUUID()).withStartTime(end.plusHours(1)).withEndTime(end.plusHours(2));
+        final var cursor = new SlotCursor(start.minusHours(1), UUID.randomUUID());
+
+        when(timeSlotRepository.findByCalendarIdWithFilters(calendarId, null, null, null, cursor.startTime(), cursor.id(), 3))
+                .thenReturn(Flux.just(first, second, third));
+        when(timeSlotRepository.findCalendarVersion(calendarId)).thenReturn(Mono.just(7L));
+
+        StepVerifier.create(timeSlotService.findByCalendar(calendarId, null, null, null, cursor.encode(), 2))
+                .expectNextMatches(page -> page.items().equals(List.of(first, second))
+                        && SlotCursor.decode(page.nextCursor()).equals(new SlotCursor(second.startTime(), second.id()))
+                        && page.version().equals("7"))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldStreamAvailabilityWithoutPaging() {
+        final var userId = UUID.randomUUID();
+        final var slot = TimeSlot.builder().id(UUID.randomUUID()).calendarId(calendarId)
+                .startTime(start).endTime(end).status(SlotStatus.FREE).build();
+
+        when(timeSlotRepository.streamByUserIdAndTimeRange(userId, start, end.plusDays(1))).thenReturn(Flux.just(slot));
+
+        StepVerifier.create(timeSlotService.streamAvailability(userId, start, end.plusDays(1)))
+                .expectNext(new AvailabilityResponse(slot.id(), start, end, SlotStatus.FREE))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldRejectMalformedCursorAndLimit() {
+        StepVerifier.create(timeSlotService.findByCalendar(calendarId, null, null, null, "not-a-cursor", null))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        StepVerifier.create(timeSlotService.getAvailability(UUID.randomUUID(), start, end, null, 0))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
+    @Test
+    void shouldWatchOnlyChangesOfRequestedCalendar() {
+        final var other = UUID.randomUUID();
+        when(lookupCache.findCalendar(calendarId)).thenReturn(Mono.just(Calendar.builder().id(calendarId).userId(UUID.randomUUID()).name("Work").build()));
+        when(changeListener.changes()).thenReturn(Flux.just(
+                new CalendarChangeListener.Change(other, CalendarChangeEvent.Operation.INSERT, false),
+                new CalendarChangeListener.Change(calendarId, CalendarChangeEvent.Operation.UPDATE, true),
+                new CalendarChangeListener.Change(calendarId, CalendarChangeEvent.Operation.DELETE, false)));
+
+        StepVerifier.create(timeSlotService.watchChanges(calendarId).flatMapMany(changes -> changes))
+                .expectNext(new CalendarChangeEvent(calendarId, CalendarChangeEvent.Operation.UPDATE))
+                .expectNext(new CalendarChangeEvent(calendarId, CalendarChangeEvent.Operation.DELETE))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldFailWatchingUnknownCalendar() {
+        when(lookupCache.findCalendar(calendarId)).thenReturn(Mono.empty());
+
+        StepVerifier.create(timeSlotService.watchChanges(calendarId))
+                .expectError(CalendarNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    void shouldReturnOnlySlotsChangedOrDeletedSinceToken() {
+        final var changed = TimeSlot.builder().id(UUID.randomUUID()).calendarId(calendarId)
+                .startTime(start).endTime(end).status(SlotStatus.BUSY).build();
+        final var deleted = UUID.randomUUID();
+        when(lookupCache.findCalendar(calendarId)).thenReturn(Mono.just(Calendar.builder().id(calendarId).userId(UUID.randomUUID()).name("Work").build()));
+        when(timeSlotRepository.findCalendarVersion(calendarId)).thenReturn(Mono.just(9L));
+        when(timeSlotRepository.findChangedSince(calendarId, 7L)).thenReturn(Flux.just(changed));
+        when(timeSlotRepository.findDeletedSince(calendarId, 7L)).thenReturn(Flux.just(deleted));
+        when(timeSlotRepository.findTombstoneFloor(calendarId)).thenReturn(Mono.just(0L));
+
+        StepVerifier.create(timeSlotService.findDelta(calendarId, 7L))
+                .expectNextMatches(delta -> delta.upserted().equals(List.of(changed))
+                        && delta.deleted().equals(List.of(deleted))
+                        && delta.token().equals("9"))
+                .verifyComplete();
+
+        StepVerifier.create(timeSlotService.findDelta(calendarId, 9L))
+                .expectNextMatches(delta -> delta.upserted().isEmpty() && delta.deleted().isEmpty() && delta.token().equals("9"))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldRejectDeltaTokenOlderThanPurgedTombstones() {
+        when(lookupCache.findCalendar(calendarId)).thenReturn(Mono.just(Calendar.builder().id(calendarId).userId(UUID.randomUUID()).name("Work").build()));
+        when(timeSlotRepository.findCalendarVersion(calendarId)).thenReturn(Mono.just(9L));
+        when(timeSlotRepository.findChangedSince(calendarId, 3L)).thenReturn(Flux.empty());
+        when(timeSlotRepository.findDeletedSince(calendarId, 3L)).thenReturn(Flux.empty());
+        when(timeSlotRepository.findTombstoneFloor(calendarId)).thenReturn(Mono.just(5L));
+
+        StepVerifier.create(timeSlotService.findDelta(calendarId, 3L))
+                .expectError(SyncTokenExpiredException.class)
+                .verify();
+    }
+
     @Test
     void shouldFailWhenEndTimeBeforeStartTime() {
         StepVerifier.create(timeSlotService.create(calendarId, new CreateSlotRequest(end, start)))
@@ -96,6 +227,13 @@ class TimeSlotServiceTest {
                 .verify();
     }
 
+    @Test
+    void shouldFailWhenSlotSpansMoreThanMaximumLength() {
+        StepVerifier.create(timeSlotService.create(calendarId, new CreateSlotRequest(start, start.plusDays(32))))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
     @Test
     void shouldDeleteFreeSlot() {
         final var slotId = UUID.randomUUID();
@@ -124,4 +262,108 @@ class TimeSlotServiceTest {
                 .expectError(SlotLinkedToMeetingException.class)
                 .verify();
     }
+
+    @Test
+    void shouldRejectUpdateStretchingSlotBeyondMaximumLengthAsBadRequest() {
+        final var slotId = UUID.randomUUID();
+        when(timeSlotRepository.updateUnlessFreeingMeetingSlot(slotId, null, end.plusDays(40), null))
+                .thenReturn(Mono.error(violation(SqlErrors.CHECK_VIOLATION)));
+
+        StepVerifier.create(timeSlotService.update(slotId, new UpdateSlotRequest(null, end.plusDays(40), null)))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
+    @Test
+    void shouldFailUpdateWhenOverlappingAnotherSlot() {
+        final var slotId = UUID.randomUUID();
+        when(timeSlotRepository.updateUnlessFreeingMeetingSlot(slotId, start, end, null))
+                .thenReturn(Mono.error(violation(SqlErrors.EXCLUSION_VIOLATION)));
+
+        StepVerifier.create(timeSlotService.update(slotId, new UpdateSlotRequest(start, end, null)))
+                .expectError(SlotOverlapException.class)
+                .verify();
+    }
+
+    @Test
+    void shouldFailUpdateWhenFreeingSlotLinkedToMeeting() {
+        final var slotId = UUID.randomUUID();
+        final var slot = TimeSlot.builder()
+                .id(slotId).calendarId(calendarId)
+                .startTime(start).endTime(end).status(SlotStatus.BUSY)
+                .meetingId(UUID.randomUUID()).build();
+
+        when(timeSlotRepository.updateUnlessFreeingMeetingSlot(slotId, null, null, SlotStatus.FREE.name()))
+                .thenReturn(Mono.empty());
+        when(timeSlotRepository.findById(slotId)).thenReturn(Mono.just(slot));
+
+        StepVerifier.create(timeSlotService.update(slotId, new UpdateSlotRequest(null, null, SlotStatus.FREE)))
+                .expectError(SlotLinkedToMeetingException.class)
+                .verify();
+    }
+
+    @Test
+    void shouldFailUpdateWhenSlotNotFound() {
+        final var slotId = UUID.randomUUID();
+        when(timeSlotRepository.updateUnlessFreeingMeetingSlot(slotId, null, null, SlotStatus.BUSY.name()))
+                .thenReturn(Mono.empty());
+        when(timeSlotRepository.findById(slotId)).thenReturn(Mono.empty());
+
+        StepVerifier.create(timeSlotService.update(slotId, new UpdateSlotRequest(null, null, SlotStatus.BUSY)))
+                .expectError(SlotNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    void shouldCreateBatchReportingSelfOverlapExistingConflictAndInvalidItems() {
+        final var existing = TimeSlot.builder()
+                .id(UUID.randomUUID()).calendarId(calendarId)
+                .startTime(start.plusHours(4)).endTime(start.plusHours(5)).status(SlotStatus.FREE).build();
+        final var requests = List.of(
+                new CreateSlotRequest(start, end),
+                new CreateSlotRequest(start.plusMinutes(30), end.plusMinutes(30)),
+                new CreateSlotRequest(start.plusHours(4), start.plusHours(5)),
+                new CreateSlotRequest(end, start),
+                new CreateSlotRequest(start.plusHours(2), start.plusHours(3)));
+        final var first = new InsertedSlot(1, UUID.randomUUID(), calendarId, start, end, SlotStatus.FREE, null);
+        final var second = new InsertedSlot(2, UUID.randomUUID(), calendarId,
+                start.plusHours(2), start.plusHours(3), SlotStatus.FREE, null);
+
+        when(timeSlotRepository.findOverlappingRange(calendarId, start, start.plusHours(5)))
+                .thenReturn(Flux.just(existing));
+        when(timeSlotRepository.insertAll(eq(calendarId), any(), any())).thenReturn(Flux.just(second, first));
+
+        StepVerifier.create(timeSlotService.createBatch(calendarId, requests))
+                .assertNext(results -> {
+                    assertThat(results)
+                            .extracting(BatchSlotResult::outcome)
+                            .containsExactly(
+                                    BatchSlotResult.Outcome.CREATED,
+                                    BatchSlotResult.Outcome.CONFLICT,
+                                    BatchSlotResult.Outcome.CONFLICT,
+                                    BatchSlotResult.Outcome.INVALID,
+                                    BatchSlotResult.Outcome.CREATED);
+                    assertThat(results.get(0).slot().id()).isEqualTo(first.id());
+                    assertThat(results.get(4).slot().id()).isEqualTo(second.id());
+                })
+                .verifyComplete();
+
+        verify(timeSlotRepository).insertAll(calendarId,
+                new LocalDateTime[]{start, start.plusHours(2)},
+                new LocalDateTime[]{end, start.plusHours(3)});
+    }
+
+    @Test
+    void shouldRejectOversizedBatch() {
+        final var requests = Collections.nCopies(501, new CreateSlotRequest(start, end));
+
+        StepVerifier.create(timeSlotService.createBatch(calendarId, requests))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
+    private static DataIntegrityViolationException violation(final String sqlState) {
+        return new DataIntegrityViolationException("constraint violated",
+                new R2dbcDataIntegrityViolationException("constraint violated", sqlState));
+    }
 }
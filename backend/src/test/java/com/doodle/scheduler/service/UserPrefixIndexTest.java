@@ -0,0 +1,80 @@
+package com.doodle.scheduler.service;
+
+import com.doodle.scheduler.domain.User;
+import com.doodle.scheduler.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserPrefixIndexTest {
+
+    @Mock private UserRepository userRepository;
+    @Mock private CalendarChangeListener changeListener;
+
+    private final User alice = user("alice", "alice@example.com");
+    private final User alicia = user("Alicia", "ali@corp.com");
+    private final User bob = user("bob", "bob@alpha.org");
+
+    private UserPrefixIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new UserPrefixIndex(userRepository, changeListener, true, Duration.ofMinutes(10));
+    }
+
+    @Test
+    void shouldReturnNothingBeforeFirstBuild() {
+        assertThat(index.search("al", 10)).isEmpty();
+    }
+
+    @Test
+    void shouldMatchUsernameAndEmailPrefixesCaseInsensitively() {
+        when(userRepository.findAll()).thenReturn(Flux.just(alice, alicia, bob));
+        StepVerifier.create(index.rebuild()).verifyComplete();
+
+        assertThat(index.search("ALI", 10)).containsExactlyInAnyOrder(alice, alicia);
+        assertThat(index.search("bob@", 10)).containsExactly(bob);
+        assertThat(index.search("ali", 1)).hasSize(1);
+        assertThat(index.search("zed", 10)).isEmpty();
+    }
+
+    @Test
+    void shouldReflectUsersAddedAndRemovedSinceLastBuild() {
+        when(userRepository.findAll()).thenReturn(Flux.just(alice, bob));
+        StepVerifier.create(index.rebuild()).verifyComplete();
+
+        index.add(alicia);
+        index.remove(alice.id());
+
+        assertThat(index.search("ali", 10)).containsExactly(alicia);
+    }
+
+    @Test
+    void shouldReplaceUpdatedUserOnReload() {
+        final var renamed = User.builder().id(alice.id()).username("carol").email("carol@example.com").build();
+        when(userRepository.findAll()).thenReturn(Flux.just(alice, bob));
+        when(userRepository.findById(alice.id())).thenReturn(Mono.just(renamed));
+        StepVerifier.create(index.rebuild()).verifyComplete();
+
+        StepVerifier.create(index.reload(alice.id())).verifyComplete();
+
+        assertThat(index.search("car", 10)).containsExactly(renamed);
+        assertThat(index.search("alice", 10)).isEmpty();
+    }
+
+    private static User user(final String username, final String email) {
+        return User.builder().id(UUID.randomUUID()).username(username).email(email).build();
+    }
+}
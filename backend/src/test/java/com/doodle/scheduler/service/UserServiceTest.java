@@ -0,0 +1,61 @@
+package com.doodle.scheduler.service;
+
+import com.doodle.scheduler.domain.User;
+import com.doodle.scheduler.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserServiceTest {
+
+    @Mock private UserRepository userRepository;
+    @Mock private LookupCache lookupCache;
+    @Mock private UserPrefixIndex prefixIndex;
+
+    @InjectMocks
+    private UserService userService;
+
+    @Test
+    void shouldTopUpPrefixMatchesWithRankedSearchResults() {
+        final var alice = user("alice");
+        final var malice = user("malice");
+        final var bob = user("bob_alice");
+        when(prefixIndex.search("ali", 10)).thenReturn(List.of(alice));
+        when(userRepository.searchByUsernameOrEmail("ali", "%ali%", 10)).thenReturn(Flux.just(malice, alice, bob));
+
+        StepVerifier.create(userService.search("ali"))
+                .expectNext(alice, malice, bob)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldAnswerFromPrefixIndexAloneWhenItFillsTheLimit() {
+        final var matches = IntStream.range(0, 10).mapToObj(i -> user("ali" + i)).toList();
+        when(prefixIndex.search("ali", 10)).thenReturn(matches);
+
+        StepVerifier.create(userService.search("ali"))
+                .expectNextSequence(matches)
+                .verifyComplete();
+
+        verify(userRepository, never()).searchByUsernameOrEmail(anyString(), anyString(), anyInt());
+    }
+
+    private static User user(final String username) {
+        return User.builder().id(UUID.randomUUID()).username(username).email(username + "@example.com").build();
+    }
+}
@@ -2,7 +2,7 @@
 
 import { useQuery, useMutation, useQueryClient } from '@tanstack/react-query';
 import { api, type TimeSlot } from '@/lib/api';
-import { useState, use } from 'react';
+import { useEffect, useState, use } from 'react';
 
 const HOURS = Array.from({ length: 10 }, (_, i) => i + 8);
 const DAYS = 7;
@@ -46,6 +46,13 @@ export default function CalendarPage({ params }: { params: Promise<{ id: string
     queryFn: () => api.slots.listByCalendar(id, { from, to }),
   });
 
+  useEffect(() => {
+    const source = new EventSource(api.slots.changesUrl(id));
+    const refresh = () => queryClient.invalidateQueries({ queryKey: ['slots', id] });
+    ['INSERT', 'UPDATE', 'DELETE'].forEach((type) => source.addEventListener(type, refresh));
+    return () => source.close();
+  }, [id, queryClient]);
+
   const { data: calendar } = useQuery({
     queryKey: ['calendar', id],
     queryFn: () => api.calendars.get(id),
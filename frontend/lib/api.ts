@@ -2,6 +2,7 @@ const API_BASE = process.env.NEXT_PUBLIC_API_URL ?? 'http://localhost:8080';
 
 export async function apiFetch<T>(path: string, options?: RequestInit): Promise<T> {
   const res = await fetch(`${API_BASE}${path}`, {
+    credentials: 'include',
     headers: { 'Content-Type': 'application/json', ...options?.headers },
     ...options,
   });
@@ -78,6 +79,7 @@ export const api = {
       const query = new URLSearchParams(params as Record<string, string>).toString();
       return apiFetch<TimeSlot[]>(`/api/v1/calendars/${calendarId}/slots${query ? `?${query}` : ''}`);
     },
+    changesUrl: (calendarId: string) => `${API_BASE}/api/v1/calendars/${calendarId}/slots/changes`,
     availability: (userId: string, from: string, to: string) =>
       apiFetch<AvailabilityItem[]>(`/api/v1/users/${userId}/availability?from=${from}&to=${to}`),
   },